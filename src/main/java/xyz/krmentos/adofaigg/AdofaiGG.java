@@ -28,45 +28,78 @@
 
 package xyz.krmentos.adofaigg;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import xyz.krmentos.adofaigg.data.ClearData;
+import xyz.krmentos.adofaigg.data.LoadContext;
 import xyz.krmentos.adofaigg.data.MapData;
+import xyz.krmentos.adofaigg.data.MapStats;
 import xyz.krmentos.adofaigg.data.UserData;
+import xyz.krmentos.adofaigg.data.UserStats;
 import xyz.krmentos.adofaigg.exception.DataNotLoaded;
+import xyz.krmentos.adofaigg.exception.SnapshotNotFound;
+import xyz.krmentos.adofaigg.metrics.Metrics;
+import xyz.krmentos.adofaigg.metrics.QueryType;
+import xyz.krmentos.adofaigg.query.ClearField;
+import xyz.krmentos.adofaigg.query.ClearGroupBy;
+import xyz.krmentos.adofaigg.query.ClearIndex;
+import xyz.krmentos.adofaigg.query.ClearProjection;
 import xyz.krmentos.adofaigg.query.ClearQuery;
 import xyz.krmentos.adofaigg.query.MapQuery;
 import xyz.krmentos.adofaigg.query.UserQuery;
+import xyz.krmentos.adofaigg.setting.DataType;
 import xyz.krmentos.adofaigg.setting.LoadOption;
+import xyz.krmentos.adofaigg.setting.RefreshPolicy;
+import xyz.krmentos.adofaigg.setting.RetryPolicy;
+import xyz.krmentos.adofaigg.setting.StorageOption;
+import xyz.krmentos.adofaigg.source.DataSource;
+import xyz.krmentos.adofaigg.source.GvizDataSource;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * 이 클래스는 Adofai.gg API의 메인 클래스입니다.
  *
  * <p>데이터는 설정된 {@link LoadOption}에 따라 불러오게 되며, 불러오는 시간은 초 단위로 설정됩니다.
+ * 맵, 클리어, 유저 데이터마다 다른 조건과 시간, 우선순위가 필요할 경우 {@link RefreshPolicy}를 사용합니다.
  *
  * <p>기본 구성:
  * <ul>
  *     <li>{@link LoadOption} : {@link LoadOption#LOAD_EVERY_ACTIVE}</li>
  *     <li>loadTime : {@code 600}</li>
+ *     <li>{@link StorageOption} : {@link StorageOption#HEAP}</li>
  * </ul>
  *
  * <p>Adofai.gg API는 {@link AdofaiGG} 객체를 생성한 후 데이터를 불러올 수 있습니다.
  *
  * <p>맵 데이터는 {@link MapQuery}를 통해, 클리어 데이터는 {@link ClearQuery}를 통해, 유저 데이터는 {@link UserQuery}를 통해 필터를 설정할 수 있습니다.
  *
+ * <p>같은 {@link LoadOption}과 불러오는 시간을 사용하는 {@link AdofaiGG} 개체들은 하나의 {@link LoadManager}를 공유하므로,
+ * 데이터는 한 번만 받아오고 같은 {@link Snapshot}을 사용합니다. 사용이 끝난 개체는 {@link #close()}를 호출하거나 try-with-resources로 닫아야 합니다.
+ *
  * <p>데이터를 수동으로 받기 위해서는 {@link LoadManager}를 참조하세요.
  *
  * @author Jongyeol
  * @see LoadManager
  */
 @Getter
-public class AdofaiGG {
+public class AdofaiGG implements AutoCloseable {
 
     private final LoadOption loadOption;
     private final long loadTime;
+    private final RefreshPolicy mapPolicy;
+    private final RefreshPolicy clearPolicy;
+    private final RefreshPolicy userPolicy;
     private final LoadManager loadManager;
+    @Getter(AccessLevel.NONE)
+    private final List<SnapshotListener> listeners = new CopyOnWriteArrayList<>();
+    private volatile boolean closed;
 
     /**
      * 기본 구성으로 AdofaiGG 개체를 구성합니다.
@@ -93,9 +126,67 @@ public class AdofaiGG {
      * @param time 데이터를 받아오는 시간을 초 단위로 설정합니다.
      */
     public AdofaiGG(LoadOption loadOption, long time) {
-        this.loadOption = loadOption;
-        loadTime = time * 1000;
-        loadManager = new LoadManager(this);
+        this(new RefreshPolicy(loadOption, time));
+    }
+
+    /**
+     * 모든 데이터에 같은 정책을 사용하는 AdofaiGG 개체를 구성합니다.
+     *
+     * @see RefreshPolicy
+     * @param policy 모든 데이터를 받아오는 정책입니다.
+     */
+    public AdofaiGG(RefreshPolicy policy) {
+        this(policy, policy, policy);
+    }
+
+    /**
+     * 데이터마다 다른 정책을 사용하는 AdofaiGG 개체를 구성합니다.
+     *
+     * <p>{@link #getLoadOption()}과 {@link #getLoadTime()}은 클리어 데이터의 정책을 따릅니다.
+     *
+     * @see RefreshPolicy
+     * @param mapPolicy 맵 데이터를 받아오는 정책입니다.
+     * @param clearPolicy 클리어 데이터를 받아오는 정책입니다.
+     * @param userPolicy 유저 데이터를 받아오는 정책입니다.
+     * @throws IllegalArgumentException 정책이 null일 경우 예외가 발생합니다.
+     */
+    public AdofaiGG(RefreshPolicy mapPolicy, RefreshPolicy clearPolicy, RefreshPolicy userPolicy) {
+        this(new GvizDataSource(), mapPolicy, clearPolicy, userPolicy);
+    }
+
+    /**
+     * 지정된 데이터 소스에서 모든 데이터에 같은 정책으로 데이터를 받아오는 AdofaiGG 개체를 구성합니다.
+     *
+     * @see DataSource
+     * @param dataSource 데이터를 받아올 {@link DataSource}입니다.
+     * @param policy 모든 데이터를 받아오는 정책입니다.
+     */
+    public AdofaiGG(DataSource dataSource, RefreshPolicy policy) {
+        this(dataSource, policy, policy, policy);
+    }
+
+    /**
+     * 지정된 데이터 소스에서 데이터마다 다른 정책으로 데이터를 받아오는 AdofaiGG 개체를 구성합니다.
+     *
+     * <p>같은 데이터 소스와 정책을 사용하는 AdofaiGG 개체는 {@link LoadManager}를 공유합니다.
+     *
+     * @see DataSource
+     * @see RefreshPolicy
+     * @param dataSource 데이터를 받아올 {@link DataSource}입니다.
+     * @param mapPolicy 맵 데이터를 받아오는 정책입니다.
+     * @param clearPolicy 클리어 데이터를 받아오는 정책입니다.
+     * @param userPolicy 유저 데이터를 받아오는 정책입니다.
+     * @throws IllegalArgumentException 데이터 소스나 정책이 null일 경우 예외가 발생합니다.
+     */
+    public AdofaiGG(DataSource dataSource, RefreshPolicy mapPolicy, RefreshPolicy clearPolicy, RefreshPolicy userPolicy) {
+        if(dataSource == null) throw new IllegalArgumentException("dataSource cannot be null");
+        if(mapPolicy == null || clearPolicy == null || userPolicy == null) throw new IllegalArgumentException("policy cannot be null");
+        this.mapPolicy = mapPolicy;
+        this.clearPolicy = clearPolicy;
+        this.userPolicy = userPolicy;
+        loadOption = clearPolicy.getLoadOption();
+        loadTime = clearPolicy.getLoadTime();
+        loadManager = LoadManager.acquire(dataSource, mapPolicy, clearPolicy, userPolicy);
     }
 
     /**
@@ -137,6 +228,217 @@ public class AdofaiGG {
         this(loadOption, day * 86400L + hour * 3600L + minute * 60L + second);
     }
 
+    /**
+     * 불러온 클리어 데이터를 저장하는 방식을 설정합니다.
+     *
+     * <p>설정은 다음에 클리어 데이터를 받아올 때부터 적용되며, 같은 {@link LoadManager}를 공유하는 모든 개체에 적용됩니다.
+     *
+     * @see StorageOption
+     * @param storageOption 클리어 데이터를 저장하는 방식입니다.
+     * @return 이 {@link AdofaiGG} 개체입니다.
+     */
+    public AdofaiGG setStorageOption(StorageOption storageOption) {
+        loadManager.setStorageOption(storageOption);
+        return this;
+    }
+
+    /**
+     * 불러온 클리어 데이터를 저장하는 방식을 반환합니다.
+     *
+     * @return 클리어 데이터를 저장하는 방식입니다.
+     */
+    public StorageOption getStorageOption() {
+        return loadManager.getStorageOption();
+    }
+
+    /**
+     * 데이터를 받아오지 못했을 때 다시 시도하는 정책을 설정합니다.
+     *
+     * <p>설정은 다음에 데이터를 받아올 때부터 적용되며, 같은 {@link LoadManager}를 공유하는 모든 개체에 적용됩니다.
+     * 데이터를 받아오지 못해도 마지막으로 받아온 데이터가 있다면 그 데이터를 계속 반환합니다.
+     *
+     * @see RetryPolicy
+     * @param retryPolicy 다시 시도하는 정책입니다. 기본값은 {@link RetryPolicy#DEFAULT}입니다.
+     * @return 이 {@link AdofaiGG} 개체입니다.
+     */
+    public AdofaiGG setRetryPolicy(RetryPolicy retryPolicy) {
+        loadManager.setRetryPolicy(retryPolicy);
+        return this;
+    }
+
+    /**
+     * 데이터를 받아오지 못했을 때 다시 시도하는 정책을 반환합니다.
+     *
+     * @return 다시 시도하는 정책입니다.
+     */
+    public RetryPolicy getRetryPolicy() {
+        return loadManager.getRetryPolicy();
+    }
+
+    /**
+     * 데이터를 읽을 때 새로 받아오는 데이터를 기다리는 최대 시간을 설정합니다. 설정은 같은 {@link LoadManager}를 공유하는 모든 개체에 적용됩니다.
+     *
+     * @see LoadManager#setRefreshWait(Duration)
+     * @param refreshWait 기다리는 최대 시간입니다. 이 시간 안에 받아오지 못하면 마지막으로 받아온 데이터를 반환합니다.
+     * @return 이 {@link AdofaiGG} 개체입니다.
+     * @throws IllegalArgumentException 시간이 null이거나 음수일 경우 예외가 발생합니다.
+     */
+    public AdofaiGG setRefreshWait(Duration refreshWait) {
+        loadManager.setRefreshWait(refreshWait);
+        return this;
+    }
+
+    /**
+     * 데이터를 읽을 때 새로 받아오는 데이터를 기다리는 최대 시간을 반환합니다.
+     *
+     * @return 기다리는 최대 시간입니다.
+     */
+    public Duration getRefreshWait() {
+        return loadManager.getRefreshWait();
+    }
+
+    /**
+     * 데이터를 받아오고 조회하는 동안 측정된 값을 전달받을 {@link Metrics}를 설정합니다. 설정은 같은 {@link LoadManager}를 공유하는 모든 개체에 적용됩니다.
+     *
+     * @see LoadManager#setMetrics(Metrics)
+     * @param metrics 측정된 값을 전달받을 {@link Metrics}입니다. null일 경우 기록하지 않습니다.
+     * @return 이 {@link AdofaiGG} 개체입니다.
+     */
+    public AdofaiGG setMetrics(Metrics metrics) {
+        loadManager.setMetrics(metrics);
+        return this;
+    }
+
+    /**
+     * 측정된 값을 전달받는 {@link Metrics}를 반환합니다.
+     *
+     * @return 설정된 {@link Metrics}입니다. 설정되지 않은 경우 {@link Metrics#NONE}을 반환합니다.
+     */
+    public Metrics getMetrics() {
+        return loadManager.getMetrics();
+    }
+
+    /**
+     * 보관할 이전 {@link Snapshot}의 수와 기간을 설정합니다. 설정은 같은 {@link LoadManager}를 공유하는 모든 개체에 적용됩니다.
+     *
+     * @see LoadManager#setHistoryLimit(int, Duration)
+     * @param size 보관할 최대 {@link Snapshot} 수입니다. 현재 {@link Snapshot}을 포함하며, 기본값은 {@code 1}입니다.
+     * @param age 보관할 기간입니다. null일 경우 기간을 제한하지 않습니다.
+     * @return 이 {@link AdofaiGG} 개체입니다.
+     * @throws IllegalArgumentException 수가 1보다 작거나 기간이 음수일 경우 예외가 발생합니다.
+     */
+    public AdofaiGG setHistoryLimit(int size, Duration age) {
+        loadManager.setHistoryLimit(size, age);
+        return this;
+    }
+
+    /**
+     * 지정된 데이터를 마지막으로 받아온 후 지난 시간을 반환합니다.
+     *
+     * @see LoadManager#getStaleness(DataType)
+     * @param type 데이터의 종류입니다.
+     * @return 지난 시간(밀리초)입니다. 받아온 적이 없을 경우 {@code -1}을 반환합니다.
+     */
+    public long getStaleness(DataType type) {
+        return loadManager.getStaleness(type);
+    }
+
+    /**
+     * 받아온 데이터의 행을 나누어 변환할 실행기를 설정합니다.
+     *
+     * <p>설정은 다음에 데이터를 받아올 때부터 적용되며, 같은 {@link LoadManager}를 공유하는 모든 개체에 적용됩니다.
+     * 행이 적은 데이터는 실행기를 사용하지 않습니다.
+     *
+     * @see LoadContext#setExecutor(Executor)
+     * @param decodeExecutor 행을 변환할 실행기입니다. null일 경우 데이터를 받아오는 스레드에서 모든 행을 변환합니다.
+     * @return 이 {@link AdofaiGG} 개체입니다.
+     */
+    public AdofaiGG setDecodeExecutor(Executor decodeExecutor) {
+        loadManager.setDecodeExecutor(decodeExecutor);
+        return this;
+    }
+
+    /**
+     * 받아온 데이터의 행을 나누어 변환할 실행기를 반환합니다.
+     *
+     * @return 행을 변환할 실행기입니다. 설정되지 않은 경우 null을 반환합니다.
+     */
+    public Executor getDecodeExecutor() {
+        return loadManager.getDecodeExecutor();
+    }
+
+    /**
+     * 데이터를 주기적으로 받아올 때 사용할 스케줄러를 설정합니다.
+     *
+     * <p>설정은 같은 {@link LoadManager}를 공유하는 모든 개체에 적용되며, 스케줄이 다시 시작됩니다.
+     *
+     * @see LoadManager#setScheduler(ScheduledExecutorService)
+     * @param scheduler 사용할 스케줄러입니다. null일 경우 {@link LoadManager#getDefaultScheduler()}를 사용합니다.
+     * @return 이 {@link AdofaiGG} 개체입니다.
+     */
+    public AdofaiGG setScheduler(ScheduledExecutorService scheduler) {
+        loadManager.setScheduler(scheduler);
+        return this;
+    }
+
+    /**
+     * 데이터를 받아오는 간격에 적용되는 무작위 편차의 비율을 설정합니다.
+     *
+     * @see LoadManager#setJitter(double)
+     * @param jitter 편차의 비율입니다. 기본값은 {@code 0.1}입니다.
+     * @return 이 {@link AdofaiGG} 개체입니다.
+     * @throws IllegalArgumentException 비율이 0보다 작거나 1보다 크거나 같을 경우 예외가 발생합니다.
+     */
+    public AdofaiGG setJitter(double jitter) {
+        loadManager.setJitter(jitter);
+        return this;
+    }
+
+    /**
+     * 이 개체가 사용하는 {@link LoadManager}의 참조를 해제합니다.
+     *
+     * <p>같은 {@link LoadManager}를 사용하는 마지막 개체가 닫히면 데이터를 받아오는 스케줄이 종료됩니다.
+     * 두 번 이상 호출해도 한 번만 해제됩니다.
+     */
+    @Override
+    public void close() {
+        synchronized(this) {
+            if(closed) return;
+            closed = true;
+        }
+        for(SnapshotListener listener : listeners) loadManager.removeListener(listener);
+        listeners.clear();
+        loadManager.release();
+    }
+
+    /**
+     * 데이터를 새로 받아올 때마다 바뀐 내용을 전달받을 리스너를 추가합니다.
+     *
+     * <p>리스너는 데이터를 받아오는 스레드가 아닌 다른 스레드에서 비동기로 호출되며, 이 개체가 닫히면 함께 제거됩니다.
+     *
+     * @see SnapshotDiff
+     * @see LoadManager#addListener(SnapshotListener)
+     * @param listener 추가할 리스너입니다.
+     * @return 이 {@link AdofaiGG} 개체입니다.
+     * @throws IllegalArgumentException 리스너가 null일 경우 예외가 발생합니다.
+     */
+    public AdofaiGG addListener(SnapshotListener listener) {
+        loadManager.addListener(listener);
+        listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * 추가한 리스너를 제거합니다.
+     *
+     * @param listener 제거할 리스너입니다.
+     * @return 이 {@link AdofaiGG} 개체입니다.
+     */
+    public AdofaiGG removeListener(SnapshotListener listener) {
+        if(listeners.remove(listener)) loadManager.removeListener(listener);
+        return this;
+    }
+
     /**
      * Id를 통해 {@link MapData}를 불러옵니다.
      *
@@ -144,12 +446,30 @@ public class AdofaiGG {
      * <p>MapData map = getMapById(123);
      *
      * @param id 검색할 {@link MapData}의 식별자입니다.
-     * @return 지정된 id와 관련된 {@link MapData} 객체입니다.
-     * @throws ArrayIndexOutOfBoundsException 제공된 id가 현재 맵 배열의 범위를 벗어난 경우 예외가 발생합니다.
+     * @return 지정된 id와 관련된 {@link MapData} 객체입니다. 존재하지 않을 경우 null을 반환합니다.
      * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
      */
     public MapData getMapById(int id) {
-        return getMaps()[id - 1];
+        return mapSnapshot().getMap(id);
+    }
+
+    /**
+     * 여러 Id에 해당하는 {@link MapData}를 한 번에 불러옵니다.
+     *
+     * <p>데이터는 한 번만 불러오며, 모든 Id를 같은 시점의 데이터에서 검색합니다.
+     *
+     * <p>예시 사용법:
+     * <p>MapData[] maps = getMapsByIds(1, 2, 3);
+     *
+     * @param ids 검색할 {@link MapData}의 식별자들입니다.
+     * @return 각 id와 같은 위치에 {@link MapData}가 담긴 배열입니다. 존재하지 않는 id의 위치에는 null이 담깁니다.
+     * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public MapData[] getMapsByIds(int... ids) {
+        Snapshot snapshot = mapSnapshot();
+        MapData[] result = new MapData[ids.length];
+        for(int i = 0; i < ids.length; i++) result[i] = snapshot.getMap(ids[i]);
+        return result;
     }
 
     /**
@@ -171,7 +491,7 @@ public class AdofaiGG {
      * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
      */
     public List<MapData> getMapByQuery(MapQuery query) {
-        return query.checkMap(getMaps());
+        return loadManager.timeQuery(DataType.MAP, QueryType.FILTER, getMaps(), query::checkMap);
     }
 
     /**
@@ -181,23 +501,75 @@ public class AdofaiGG {
      * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
      */
     public MapData[] getMaps() {
-        if(loadOption == LoadOption.LOAD_EVERY_ACTIVE ||
-            (loadOption == LoadOption.LOAD_ACTIVE_FOR_TIME && loadManager.lastMapDataLoadTime + loadTime <= System.currentTimeMillis()))
-            loadManager.loadMapData();
-        if(loadManager.mapData == null) throw new DataNotLoaded();
-        return loadManager.mapData;
+        return mapSnapshot().getMaps();
+    }
+
+    /**
+     * 지정된 버전의 {@link Snapshot}에 저장된 모든 {@link MapData} 배열을 반환합니다.
+     *
+     * @see #setHistoryLimit(int, Duration)
+     * @param version 조회할 {@link Snapshot}의 버전입니다.
+     * @return 지정된 버전의 모든 {@link MapData} 객체들의 배열입니다.
+     * @throws SnapshotNotFound 지정된 버전의 {@link Snapshot}이 보관되어 있지 않을 경우 예외가 발생합니다.
+     * @throws DataNotLoaded 지정된 버전에 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public MapData[] getMaps(long version) {
+        return requireMaps(loadManager.getSnapshot(version));
+    }
+
+    /**
+     * 지정된 시각에 사용되던 {@link Snapshot}에 저장된 모든 {@link MapData} 배열을 반환합니다.
+     *
+     * @see #setHistoryLimit(int, Duration)
+     * @param time 조회할 시각입니다.
+     * @return 지정된 시각의 모든 {@link MapData} 객체들의 배열입니다.
+     * @throws SnapshotNotFound 지정된 시각의 {@link Snapshot}이 보관되어 있지 않을 경우 예외가 발생합니다.
+     * @throws DataNotLoaded 지정된 시각에 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public MapData[] getMaps(Instant time) {
+        return requireMaps(loadManager.getSnapshot(time));
+    }
+
+    private static MapData[] requireMaps(Snapshot snapshot) {
+        if(snapshot.getMaps() == null) throw new DataNotLoaded();
+        return snapshot.getMaps();
+    }
+
+    private Snapshot mapSnapshot() {
+        if(mapPolicy.isStale(loadManager.lastMapDataLoadTime, System.currentTimeMillis())) loadManager.refresh(DataType.MAP);
+        Snapshot snapshot = loadManager.snapshot;
+        if(snapshot.getMaps() == null) throw new DataNotLoaded();
+        return snapshot;
     }
 
     /**
      * 지정된 Id에 해당하는 {@link ClearData}를 반환합니다.
      *
      * @param id 검색할 {@link ClearData}의 식별자입니다.
-     * @return 지정된 id와 관련된 {@link ClearData} 객체입니다.
-     * @throws ArrayIndexOutOfBoundsException 제공된 id가 현재 ClearData 배열의 범위를 벗어난 경우 예외가 발생합니다.
+     * @return 지정된 id와 관련된 {@link ClearData} 객체입니다. 존재하지 않을 경우 null을 반환합니다.
      * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
      */
     public ClearData getClearById(int id) {
-        return getClears()[id - 1];
+        return clearSnapshot().getClear(id);
+    }
+
+    /**
+     * 여러 Id에 해당하는 {@link ClearData}를 한 번에 불러옵니다.
+     *
+     * <p>데이터는 한 번만 불러오며, 모든 Id를 같은 시점의 데이터에서 검색합니다.
+     *
+     * <p>예시 사용법:
+     * <p>ClearData[] clears = getClearsByIds(1, 2, 3);
+     *
+     * @param ids 검색할 {@link ClearData}의 식별자들입니다.
+     * @return 각 id와 같은 위치에 {@link ClearData}가 담긴 배열입니다. 존재하지 않는 id의 위치에는 null이 담깁니다.
+     * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public ClearData[] getClearsByIds(int... ids) {
+        Snapshot snapshot = clearSnapshot();
+        ClearData[] result = new ClearData[ids.length];
+        for(int i = 0; i < ids.length; i++) result[i] = snapshot.getClear(ids[i]);
+        return result;
     }
 
     /**
@@ -208,7 +580,58 @@ public class AdofaiGG {
      * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
      */
     public List<ClearData> getClearByQuery(ClearQuery query) {
-        return query.checkClear(getClears());
+        return loadManager.timeQuery(DataType.CLEAR, QueryType.FILTER, getClearIndex(), query::checkClear);
+    }
+
+    /**
+     * 지정된 버전의 {@link Snapshot}에서 {@link ClearQuery}에 따라 필터링된 {@link ClearData} 목록을 반환합니다.
+     *
+     * @see #setHistoryLimit(int, Duration)
+     * @param query {@link ClearQuery} 객체로 지정된 검색 조건입니다.
+     * @param version 조회할 {@link Snapshot}의 버전입니다.
+     * @return 검색 조건을 만족하는 {@link ClearData} 객체들의 목록입니다.
+     * @throws SnapshotNotFound 지정된 버전의 {@link Snapshot}이 보관되어 있지 않을 경우 예외가 발생합니다.
+     * @throws DataNotLoaded 지정된 버전에 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public List<ClearData> getClearByQuery(ClearQuery query, long version) {
+        return loadManager.timeQuery(DataType.CLEAR, QueryType.FILTER, requireClearIndex(loadManager.getSnapshot(version)), query::checkClear);
+    }
+
+    /**
+     * 지정된 시각에 사용되던 {@link Snapshot}에서 {@link ClearQuery}에 따라 필터링된 {@link ClearData} 목록을 반환합니다.
+     *
+     * <p>예시 사용법:
+     * <p>List<ClearData> clears = getClearByQuery(new ClearQuery().setMapId(1), Instant.now().minus(Duration.ofDays(7)));
+     *
+     * @see #setHistoryLimit(int, Duration)
+     * @param query {@link ClearQuery} 객체로 지정된 검색 조건입니다.
+     * @param time 조회할 시각입니다.
+     * @return 검색 조건을 만족하는 {@link ClearData} 객체들의 목록입니다.
+     * @throws SnapshotNotFound 지정된 시각의 {@link Snapshot}이 보관되어 있지 않을 경우 예외가 발생합니다.
+     * @throws DataNotLoaded 지정된 시각에 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public List<ClearData> getClearByQuery(ClearQuery query, Instant time) {
+        return loadManager.timeQuery(DataType.CLEAR, QueryType.FILTER, requireClearIndex(loadManager.getSnapshot(time)), query::checkClear);
+    }
+
+    private static ClearIndex requireClearIndex(Snapshot snapshot) {
+        if(snapshot.getClearIndex() == null) throw new DataNotLoaded();
+        return snapshot.getClearIndex();
+    }
+
+    /**
+     * 지정된 {@link ClearQuery}에 맞는 {@link ClearData}에서 지정된 필드의 값만 선택합니다.
+     *
+     * <p>예시 사용법:
+     * <p>ClearProjection result = selectClearByQuery(query, ClearField.ID, ClearField.PLAY_POINT);
+     *
+     * @param query {@link ClearQuery} 객체로 지정된 검색 조건입니다.
+     * @param fields 선택할 필드입니다.
+     * @return 선택한 필드의 값이 담긴 {@link ClearProjection}입니다.
+     * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public ClearProjection selectClearByQuery(ClearQuery query, ClearField... fields) {
+        return loadManager.timeQuery(DataType.CLEAR, QueryType.SELECT, getClearIndex(), index -> query.select(index, fields));
     }
 
     /**
@@ -218,23 +641,128 @@ public class AdofaiGG {
      * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
      */
     public ClearData[] getClears() {
-        if(loadOption == LoadOption.LOAD_EVERY_ACTIVE ||
-            (loadOption == LoadOption.LOAD_ACTIVE_FOR_TIME && loadManager.lastClearDataLoadTime + loadTime <= System.currentTimeMillis()))
-            loadManager.loadClearData();
-        if(loadManager.clearData == null) throw new DataNotLoaded();
-        return loadManager.clearData;
+        return getClearIndex().getClears();
+    }
+
+    /**
+     * 현재 로드된 {@link ClearData} 배열의 {@link ClearIndex}를 반환합니다.
+     *
+     * @return 현재 로드된 클리어 데이터의 색인입니다.
+     * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public ClearIndex getClearIndex() {
+        return clearSnapshot().getClearIndex();
+    }
+
+    private Snapshot clearSnapshot() {
+        if(clearPolicy.isStale(loadManager.lastClearDataLoadTime, System.currentTimeMillis())) loadManager.refresh(DataType.CLEAR);
+        Snapshot snapshot = loadManager.snapshot;
+        if(snapshot.getClearIndex() == null) throw new DataNotLoaded();
+        return snapshot;
+    }
+
+    /**
+     * 현재 로드된 {@link ClearData}를 지정된 {@link ClearField}의 값으로 묶은 {@link ClearGroupBy}를 반환합니다.
+     *
+     * <p>결과는 현재 {@link Snapshot}에 저장되므로, 데이터가 다시 로드되기 전까지는 같은 집계를 다시 계산하지 않습니다.
+     *
+     * <p>예시 사용법:
+     * <p>GroupResult averageXAccuracy = groupClearsBy(ClearField.MAP_ID).avg(ClearField.X_ACCURACY);
+     *
+     * @param key 그룹의 기준이 되는 필드입니다.
+     * @return 클리어 데이터를 묶은 {@link ClearGroupBy}입니다.
+     * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public ClearGroupBy groupClearsBy(ClearField key) {
+        return groupClearsBy(key, 1);
+    }
+
+    /**
+     * 현재 로드된 {@link ClearData}를 지정된 {@link ClearField}의 값을 간격으로 나눈 구간으로 묶은 {@link ClearGroupBy}를 반환합니다.
+     *
+     * <p>결과는 현재 {@link Snapshot}에 저장되므로, 데이터가 다시 로드되기 전까지는 같은 집계를 다시 계산하지 않습니다.
+     *
+     * <p>예시 사용법:
+     * <p>GroupResult ppDistribution = groupClearsBy(ClearField.PLAY_POINT, 10).count();
+     *
+     * @param key 그룹의 기준이 되는 필드입니다.
+     * @param bucketWidth 구간의 간격입니다.
+     * @return 클리어 데이터를 묶은 {@link ClearGroupBy}입니다.
+     * @throws IllegalArgumentException 간격이 0보다 작거나 같을 경우 예외가 발생합니다.
+     * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public ClearGroupBy groupClearsBy(ClearField key, double bucketWidth) {
+        return loadManager.timeQuery(DataType.CLEAR, QueryType.GROUP, clearSnapshot(), snapshot -> snapshot.groupClearsBy(key, bucketWidth));
+    }
+
+    /**
+     * 지정된 {@link ClearQuery}에 맞는 {@link ClearData}를 지정된 {@link ClearField}의 값으로 묶은 {@link ClearGroupBy}를 반환합니다.
+     *
+     * <p>조건이 있는 집계는 저장되지 않습니다.
+     *
+     * @param key 그룹의 기준이 되는 필드입니다.
+     * @param query {@link ClearQuery} 객체로 지정된 검색 조건입니다.
+     * @return 클리어 데이터를 묶은 {@link ClearGroupBy}입니다.
+     * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public ClearGroupBy groupClearsBy(ClearField key, ClearQuery query) {
+        return loadManager.timeQuery(DataType.CLEAR, QueryType.GROUP, getClearIndex(), index -> new ClearGroupBy(index, key, 1, query));
+    }
+
+    /**
+     * 지정된 맵 ID의 {@link MapStats}를 반환합니다.
+     *
+     * <p>통계는 데이터를 불러올 때 미리 계산되어 있으므로 클리어 데이터를 다시 탐색하지 않습니다.
+     *
+     * @param id 검색할 맵의 식별자입니다.
+     * @return 맵의 클리어 통계입니다. 클리어 데이터가 없을 경우 null을 반환합니다.
+     * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public MapStats getMapStats(int id) {
+        return clearSnapshot().getStatistics().getMapStats(id);
+    }
+
+    /**
+     * 지정된 사용자 코드의 {@link UserStats}를 반환합니다.
+     *
+     * <p>통계는 데이터를 불러올 때 미리 계산되어 있으므로 클리어 데이터를 다시 탐색하지 않습니다.
+     *
+     * @param id 검색할 유저의 사용자 코드입니다.
+     * @return 유저의 클리어 통계입니다. 클리어 데이터가 없을 경우 null을 반환합니다.
+     * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public UserStats getUserStats(int id) {
+        return clearSnapshot().getStatistics().getUserStats(id);
     }
 
     /**
      * 지정된 Id에 해당하는 {@link UserData}를 반환합니다.
      *
      * @param id 검색할 {@link UserData}의 식별자입니다.
-     * @return 지정된 id와 관련된 {@link UserData} 객체입니다.
-     * @throws ArrayIndexOutOfBoundsException 제공된 id가 현재 UserData 배열의 범위를 벗어난 경우 예외가 발생합니다.
+     * @return 지정된 id와 관련된 {@link UserData} 객체입니다. 존재하지 않을 경우 null을 반환합니다.
      * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
      */
     public UserData getUserById(int id) {
-        return getUsers()[id];
+        return userSnapshot().getUser(id);
+    }
+
+    /**
+     * 여러 Id에 해당하는 {@link UserData}를 한 번에 불러옵니다.
+     *
+     * <p>데이터는 한 번만 불러오며, 모든 Id를 같은 시점의 데이터에서 검색합니다.
+     *
+     * <p>예시 사용법:
+     * <p>UserData[] users = getUsersByIds(1, 2, 3);
+     *
+     * @param ids 검색할 {@link UserData}의 식별자들입니다.
+     * @return 각 id와 같은 위치에 {@link UserData}가 담긴 배열입니다. 존재하지 않는 id의 위치에는 null이 담깁니다.
+     * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public UserData[] getUsersByIds(int... ids) {
+        Snapshot snapshot = userSnapshot();
+        UserData[] result = new UserData[ids.length];
+        for(int i = 0; i < ids.length; i++) result[i] = snapshot.getUser(ids[i]);
+        return result;
     }
 
     /**
@@ -245,7 +773,7 @@ public class AdofaiGG {
      * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
      */
     public List<UserData> getUserByQuery(UserQuery query) {
-        return query.checkUser(getUsers());
+        return loadManager.timeQuery(DataType.USER, QueryType.FILTER, getUsers(), query::checkUser);
     }
 
     /**
@@ -255,10 +783,122 @@ public class AdofaiGG {
      * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
      */
     public UserData[] getUsers() {
-        if(loadOption == LoadOption.LOAD_EVERY_ACTIVE ||
-            (loadOption == LoadOption.LOAD_ACTIVE_FOR_TIME && loadManager.lastClearDataLoadTime + loadTime <= System.currentTimeMillis()))
-            loadManager.loadUserData();
-        if(loadManager.clearData == null) throw new DataNotLoaded();
-        return loadManager.userData;
+        return userSnapshot().getUsers();
+    }
+
+    /**
+     * 지정된 버전의 {@link Snapshot}에 저장된 모든 {@link UserData} 배열을 반환합니다.
+     *
+     * @see #setHistoryLimit(int, Duration)
+     * @param version 조회할 {@link Snapshot}의 버전입니다.
+     * @return 지정된 버전의 모든 {@link UserData} 객체들의 배열입니다.
+     * @throws SnapshotNotFound 지정된 버전의 {@link Snapshot}이 보관되어 있지 않을 경우 예외가 발생합니다.
+     * @throws DataNotLoaded 지정된 버전에 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public UserData[] getUsers(long version) {
+        return requireUsers(loadManager.getSnapshot(version));
+    }
+
+    /**
+     * 지정된 시각에 사용되던 {@link Snapshot}에 저장된 모든 {@link UserData} 배열을 반환합니다.
+     *
+     * @see #setHistoryLimit(int, Duration)
+     * @param time 조회할 시각입니다.
+     * @return 지정된 시각의 모든 {@link UserData} 객체들의 배열입니다.
+     * @throws SnapshotNotFound 지정된 시각의 {@link Snapshot}이 보관되어 있지 않을 경우 예외가 발생합니다.
+     * @throws DataNotLoaded 지정된 시각에 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public UserData[] getUsers(Instant time) {
+        return requireUsers(loadManager.getSnapshot(time));
+    }
+
+    private static UserData[] requireUsers(Snapshot snapshot) {
+        if(snapshot.getUsers() == null) throw new DataNotLoaded();
+        return snapshot.getUsers();
+    }
+
+    private Snapshot userSnapshot() {
+        if(userPolicy.isStale(loadManager.lastUserDataLoadTime, System.currentTimeMillis())) loadManager.refresh(DataType.USER);
+        Snapshot snapshot = loadManager.snapshot;
+        if(snapshot.getUsers() == null) throw new DataNotLoaded();
+        return snapshot;
+    }
+
+    /**
+     * 지정된 {@link MapQuery}에 맞는 {@link MapData}의 수를 반환합니다.
+     *
+     * <p>결과 목록을 만들지 않고 수만 계산합니다.
+     *
+     * @param query {@link MapQuery} 객체로 지정된 검색 조건입니다.
+     * @return 검색 조건을 만족하는 {@link MapData} 객체의 수입니다.
+     * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public int count(MapQuery query) {
+        return loadManager.timeQuery(DataType.MAP, QueryType.COUNT, getMaps(), query::countMap);
+    }
+
+    /**
+     * 지정된 {@link ClearQuery}에 맞는 {@link ClearData}의 수를 반환합니다.
+     *
+     * <p>결과 목록을 만들지 않고 수만 계산하며, 가능한 경우 {@link ClearIndex}를 사용합니다.
+     *
+     * @param query {@link ClearQuery} 객체로 지정된 검색 조건입니다.
+     * @return 검색 조건을 만족하는 {@link ClearData} 객체의 수입니다.
+     * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public int count(ClearQuery query) {
+        return loadManager.timeQuery(DataType.CLEAR, QueryType.COUNT, getClearIndex(), query::countClear);
+    }
+
+    /**
+     * 지정된 {@link UserQuery}에 맞는 {@link UserData}의 수를 반환합니다.
+     *
+     * <p>결과 목록을 만들지 않고 수만 계산합니다.
+     *
+     * @param query {@link UserQuery} 객체로 지정된 검색 조건입니다.
+     * @return 검색 조건을 만족하는 {@link UserData} 객체의 수입니다.
+     * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public int count(UserQuery query) {
+        return loadManager.timeQuery(DataType.USER, QueryType.COUNT, getUsers(), query::countUser);
+    }
+
+    /**
+     * 지정된 {@link MapQuery}에 맞는 {@link MapData}가 존재하는지 확인합니다.
+     *
+     * <p>조건에 맞는 데이터를 처음 찾은 즉시 탐색을 멈춥니다.
+     *
+     * @param query {@link MapQuery} 객체로 지정된 검색 조건입니다.
+     * @return 검색 조건을 만족하는 {@link MapData}가 있을 경우 {@code true}를 반환합니다.
+     * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public boolean exists(MapQuery query) {
+        return loadManager.timeQuery(DataType.MAP, QueryType.EXISTS, getMaps(), query::existsMap);
+    }
+
+    /**
+     * 지정된 {@link ClearQuery}에 맞는 {@link ClearData}가 존재하는지 확인합니다.
+     *
+     * <p>조건에 맞는 데이터를 처음 찾은 즉시 탐색을 멈추며, 가능한 경우 {@link ClearIndex}를 사용합니다.
+     *
+     * @param query {@link ClearQuery} 객체로 지정된 검색 조건입니다.
+     * @return 검색 조건을 만족하는 {@link ClearData}가 있을 경우 {@code true}를 반환합니다.
+     * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public boolean exists(ClearQuery query) {
+        return loadManager.timeQuery(DataType.CLEAR, QueryType.EXISTS, getClearIndex(), query::existsClear);
+    }
+
+    /**
+     * 지정된 {@link UserQuery}에 맞는 {@link UserData}가 존재하는지 확인합니다.
+     *
+     * <p>조건에 맞는 데이터를 처음 찾은 즉시 탐색을 멈춥니다.
+     *
+     * @param query {@link UserQuery} 객체로 지정된 검색 조건입니다.
+     * @return 검색 조건을 만족하는 {@link UserData}가 있을 경우 {@code true}를 반환합니다.
+     * @throws DataNotLoaded 데이터가 로딩되지 않았을 경우 예외가 발생합니다.
+     */
+    public boolean exists(UserQuery query) {
+        return loadManager.timeQuery(DataType.USER, QueryType.EXISTS, getUsers(), query::existsUser);
     }
 }
@@ -0,0 +1,389 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg;
+
+import xyz.krmentos.adofaigg.data.ClearData;
+import xyz.krmentos.adofaigg.data.MapData;
+import xyz.krmentos.adofaigg.data.MapStats;
+import xyz.krmentos.adofaigg.data.UserData;
+import xyz.krmentos.adofaigg.data.UserStats;
+import xyz.krmentos.adofaigg.exception.DataNotLoaded;
+import xyz.krmentos.adofaigg.metrics.QueryType;
+import xyz.krmentos.adofaigg.query.ClearField;
+import xyz.krmentos.adofaigg.query.ClearGroupBy;
+import xyz.krmentos.adofaigg.query.ClearIndex;
+import xyz.krmentos.adofaigg.query.ClearProjection;
+import xyz.krmentos.adofaigg.query.ClearQuery;
+import xyz.krmentos.adofaigg.query.MapQuery;
+import xyz.krmentos.adofaigg.query.UserQuery;
+import xyz.krmentos.adofaigg.setting.DataType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 이 클래스는 {@link AdofaiGG}의 기능을 {@link CompletableFuture}로 제공하는 비동기 클래스입니다.
+ *
+ * <p>데이터를 다시 받아와야 할 경우 {@link LoadManager#loadAsync(DataType)}를 사용하므로, 호출한 스레드는 네트워크를 기다리지 않습니다.
+ * 데이터를 다시 받아올 필요가 없을 경우 현재 {@link Snapshot}으로 이미 완료된 {@link CompletableFuture}를 반환합니다.
+ * 데이터를 받아오는 조건은 감싸고 있는 {@link AdofaiGG}의 {@link xyz.krmentos.adofaigg.setting.RefreshPolicy}를 따릅니다.
+ *
+ * <p>데이터가 로딩되지 않은 경우 반환된 {@link CompletableFuture}는 {@link DataNotLoaded}로 완료됩니다.
+ *
+ * <p>예시 사용법:
+ * <p>AdofaiGGAsync adofaiGG = new AdofaiGGAsync(new AdofaiGG());
+ * <p>adofaiGG.getMapByQuery(query).thenAccept(maps -> ...);
+ *
+ * @author Jongyeol
+ * @see AdofaiGG
+ * @see LoadManager
+ */
+public class AdofaiGGAsync implements AutoCloseable {
+
+    private final AdofaiGG adofaiGG;
+
+    /**
+     * 주어진 {@link AdofaiGG}를 사용하는 비동기 개체를 구성합니다.
+     *
+     * @param adofaiGG 데이터를 받아오는 설정과 {@link LoadManager}를 가진 {@link AdofaiGG}입니다.
+     */
+    public AdofaiGGAsync(AdofaiGG adofaiGG) {
+        this.adofaiGG = adofaiGG;
+    }
+
+    /**
+     * 감싸고 있는 {@link AdofaiGG}를 반환합니다.
+     *
+     * @return 감싸고 있는 {@link AdofaiGG}입니다.
+     */
+    public AdofaiGG getAdofaiGG() {
+        return adofaiGG;
+    }
+
+    /**
+     * 감싸고 있는 {@link AdofaiGG}를 닫습니다.
+     *
+     * @see AdofaiGG#close()
+     */
+    @Override
+    public void close() {
+        adofaiGG.close();
+    }
+
+    /**
+     * Id를 통해 {@link MapData}를 불러옵니다.
+     *
+     * @param id 검색할 {@link MapData}의 식별자입니다.
+     * @return 지정된 id와 관련된 {@link MapData} 객체입니다. 존재하지 않을 경우 null로 완료됩니다.
+     */
+    public CompletableFuture<MapData> getMapById(int id) {
+        return mapSnapshot().thenApply(snapshot -> snapshot.getMap(id));
+    }
+
+    /**
+     * 여러 Id에 해당하는 {@link MapData}를 같은 시점의 데이터에서 한 번에 불러옵니다.
+     *
+     * @param ids 검색할 {@link MapData}의 식별자들입니다.
+     * @return 각 id와 같은 위치에 {@link MapData}가 담긴 배열입니다. 존재하지 않는 id의 위치에는 null이 담깁니다.
+     */
+    public CompletableFuture<MapData[]> getMapsByIds(int... ids) {
+        return mapSnapshot().thenApply(snapshot -> {
+            MapData[] result = new MapData[ids.length];
+            for(int i = 0; i < ids.length; i++) result[i] = snapshot.getMap(ids[i]);
+            return result;
+        });
+    }
+
+    /**
+     * 곡 이름에 주어진 문자열이 포함된 {@link MapData} 목록을 반환합니다.
+     *
+     * @param query 검색할 문자열입니다.
+     * @return 검색 조건을 만족하는 {@link MapData} 객체들의 목록입니다.
+     */
+    public CompletableFuture<List<MapData>> getMapByName(String query) {
+        return getMaps().thenApply(maps -> Arrays.stream(maps).filter(mapData -> mapData.getSong().contains(query)).toList());
+    }
+
+    /**
+     * 지정된 {@link MapQuery}에 따라 필터링된 {@link MapData} 목록을 반환합니다.
+     *
+     * @param query {@link MapQuery} 객체로 지정된 검색 조건입니다.
+     * @return 검색 조건을 만족하는 {@link MapData} 객체들의 목록입니다.
+     */
+    public CompletableFuture<List<MapData>> getMapByQuery(MapQuery query) {
+        return getMaps().thenApply(maps -> timeQuery(DataType.MAP, QueryType.FILTER, maps, query::checkMap));
+    }
+
+    /**
+     * 현재 로드된 모든 {@link MapData} 배열을 반환합니다.
+     *
+     * @return 현재 로드된 모든 {@link MapData} 객체들의 배열입니다.
+     */
+    public CompletableFuture<MapData[]> getMaps() {
+        return mapSnapshot().thenApply(Snapshot::getMaps);
+    }
+
+    /**
+     * 지정된 Id에 해당하는 {@link ClearData}를 반환합니다.
+     *
+     * @param id 검색할 {@link ClearData}의 식별자입니다.
+     * @return 지정된 id와 관련된 {@link ClearData} 객체입니다. 존재하지 않을 경우 null로 완료됩니다.
+     */
+    public CompletableFuture<ClearData> getClearById(int id) {
+        return clearSnapshot().thenApply(snapshot -> snapshot.getClear(id));
+    }
+
+    /**
+     * 여러 Id에 해당하는 {@link ClearData}를 같은 시점의 데이터에서 한 번에 불러옵니다.
+     *
+     * @param ids 검색할 {@link ClearData}의 식별자들입니다.
+     * @return 각 id와 같은 위치에 {@link ClearData}가 담긴 배열입니다. 존재하지 않는 id의 위치에는 null이 담깁니다.
+     */
+    public CompletableFuture<ClearData[]> getClearsByIds(int... ids) {
+        return clearSnapshot().thenApply(snapshot -> {
+            ClearData[] result = new ClearData[ids.length];
+            for(int i = 0; i < ids.length; i++) result[i] = snapshot.getClear(ids[i]);
+            return result;
+        });
+    }
+
+    /**
+     * 지정된 {@link ClearQuery}에 따라 필터링된 {@link ClearData} 목록을 반환합니다.
+     *
+     * @param query {@link ClearQuery} 객체로 지정된 검색 조건입니다.
+     * @return 검색 조건을 만족하는 {@link ClearData} 객체들의 목록입니다.
+     */
+    public CompletableFuture<List<ClearData>> getClearByQuery(ClearQuery query) {
+        return getClearIndex().thenApply(index -> timeQuery(DataType.CLEAR, QueryType.FILTER, index, query::checkClear));
+    }
+
+    /**
+     * 지정된 {@link ClearQuery}에 맞는 {@link ClearData}에서 지정된 필드의 값만 선택합니다.
+     *
+     * @param query {@link ClearQuery} 객체로 지정된 검색 조건입니다.
+     * @param fields 선택할 필드입니다.
+     * @return 선택한 필드의 값이 담긴 {@link ClearProjection}입니다.
+     */
+    public CompletableFuture<ClearProjection> selectClearByQuery(ClearQuery query, ClearField... fields) {
+        return getClearIndex().thenApply(index -> timeQuery(DataType.CLEAR, QueryType.SELECT, index, current -> query.select(current, fields)));
+    }
+
+    /**
+     * 현재 로드된 모든 {@link ClearData} 배열을 반환합니다.
+     *
+     * @return 현재 로드된 모든 {@link ClearData} 객체들의 배열입니다.
+     */
+    public CompletableFuture<ClearData[]> getClears() {
+        return getClearIndex().thenApply(ClearIndex::getClears);
+    }
+
+    /**
+     * 현재 로드된 클리어 데이터의 {@link ClearIndex}를 반환합니다.
+     *
+     * @return 클리어 데이터의 색인입니다.
+     */
+    public CompletableFuture<ClearIndex> getClearIndex() {
+        return clearSnapshot().thenApply(Snapshot::getClearIndex);
+    }
+
+    /**
+     * 지정된 필드의 값으로 클리어 데이터를 묶습니다.
+     *
+     * @see AdofaiGG#groupClearsBy(ClearField)
+     * @param key 그룹의 기준이 되는 필드입니다.
+     * @return 묶인 클리어 데이터입니다.
+     */
+    public CompletableFuture<ClearGroupBy> groupClearsBy(ClearField key) {
+        return groupClearsBy(key, 1);
+    }
+
+    /**
+     * 지정된 필드의 값을 주어진 간격으로 나눈 구간으로 클리어 데이터를 묶습니다.
+     *
+     * @see AdofaiGG#groupClearsBy(ClearField, double)
+     * @param key 그룹의 기준이 되는 필드입니다.
+     * @param bucketWidth 구간의 간격입니다.
+     * @return 묶인 클리어 데이터입니다.
+     */
+    public CompletableFuture<ClearGroupBy> groupClearsBy(ClearField key, double bucketWidth) {
+        return clearSnapshot().thenApply(snapshot -> timeQuery(DataType.CLEAR, QueryType.GROUP, snapshot, current -> current.groupClearsBy(key, bucketWidth)));
+    }
+
+    /**
+     * 지정된 맵의 통계를 반환합니다.
+     *
+     * @param id 맵의 식별자입니다.
+     * @return 맵의 통계입니다. 클리어 기록이 없을 경우 null로 완료됩니다.
+     */
+    public CompletableFuture<MapStats> getMapStats(int id) {
+        return clearSnapshot().thenApply(snapshot -> snapshot.getStatistics().getMapStats(id));
+    }
+
+    /**
+     * 지정된 유저의 통계를 반환합니다.
+     *
+     * @param id 유저 코드입니다.
+     * @return 유저의 통계입니다. 클리어 기록이 없을 경우 null로 완료됩니다.
+     */
+    public CompletableFuture<UserStats> getUserStats(int id) {
+        return clearSnapshot().thenApply(snapshot -> snapshot.getStatistics().getUserStats(id));
+    }
+
+    /**
+     * 지정된 Id에 해당하는 {@link UserData}를 반환합니다.
+     *
+     * @param id 검색할 {@link UserData}의 식별자입니다.
+     * @return 지정된 id와 관련된 {@link UserData} 객체입니다. 존재하지 않을 경우 null로 완료됩니다.
+     */
+    public CompletableFuture<UserData> getUserById(int id) {
+        return userSnapshot().thenApply(snapshot -> snapshot.getUser(id));
+    }
+
+    /**
+     * 여러 Id에 해당하는 {@link UserData}를 같은 시점의 데이터에서 한 번에 불러옵니다.
+     *
+     * @param ids 검색할 {@link UserData}의 식별자들입니다.
+     * @return 각 id와 같은 위치에 {@link UserData}가 담긴 배열입니다. 존재하지 않는 id의 위치에는 null이 담깁니다.
+     */
+    public CompletableFuture<UserData[]> getUsersByIds(int... ids) {
+        return userSnapshot().thenApply(snapshot -> {
+            UserData[] result = new UserData[ids.length];
+            for(int i = 0; i < ids.length; i++) result[i] = snapshot.getUser(ids[i]);
+            return result;
+        });
+    }
+
+    /**
+     * 지정된 {@link UserQuery}에 따라 필터링된 {@link UserData} 목록을 반환합니다.
+     *
+     * @param query {@link UserQuery} 객체로 지정된 검색 조건입니다.
+     * @return 검색 조건을 만족하는 {@link UserData} 객체들의 목록입니다.
+     */
+    public CompletableFuture<List<UserData>> getUserByQuery(UserQuery query) {
+        return getUsers().thenApply(users -> timeQuery(DataType.USER, QueryType.FILTER, users, query::checkUser));
+    }
+
+    /**
+     * 현재 로드된 모든 {@link UserData} 배열을 반환합니다.
+     *
+     * @return 현재 로드된 모든 {@link UserData} 객체들의 배열입니다.
+     */
+    public CompletableFuture<UserData[]> getUsers() {
+        return userSnapshot().thenApply(Snapshot::getUsers);
+    }
+
+    /**
+     * 지정된 {@link MapQuery}에 맞는 {@link MapData}의 수를 반환합니다.
+     *
+     * @param query {@link MapQuery} 객체로 지정된 검색 조건입니다.
+     * @return 검색 조건을 만족하는 {@link MapData} 객체의 수입니다.
+     */
+    public CompletableFuture<Integer> count(MapQuery query) {
+        return getMaps().thenApply(maps -> timeQuery(DataType.MAP, QueryType.COUNT, maps, query::countMap));
+    }
+
+    /**
+     * 지정된 {@link ClearQuery}에 맞는 {@link ClearData}의 수를 반환합니다.
+     *
+     * @param query {@link ClearQuery} 객체로 지정된 검색 조건입니다.
+     * @return 검색 조건을 만족하는 {@link ClearData} 객체의 수입니다.
+     */
+    public CompletableFuture<Integer> count(ClearQuery query) {
+        return getClearIndex().thenApply(index -> timeQuery(DataType.CLEAR, QueryType.COUNT, index, query::countClear));
+    }
+
+    /**
+     * 지정된 {@link UserQuery}에 맞는 {@link UserData}의 수를 반환합니다.
+     *
+     * @param query {@link UserQuery} 객체로 지정된 검색 조건입니다.
+     * @return 검색 조건을 만족하는 {@link UserData} 객체의 수입니다.
+     */
+    public CompletableFuture<Integer> count(UserQuery query) {
+        return getUsers().thenApply(users -> timeQuery(DataType.USER, QueryType.COUNT, users, query::countUser));
+    }
+
+    /**
+     * 지정된 {@link MapQuery}에 맞는 {@link MapData}가 존재하는지 확인합니다.
+     *
+     * @param query {@link MapQuery} 객체로 지정된 검색 조건입니다.
+     * @return 검색 조건을 만족하는 {@link MapData}가 하나라도 있을 경우 {@code true}로 완료됩니다.
+     */
+    public CompletableFuture<Boolean> exists(MapQuery query) {
+        return getMaps().thenApply(maps -> timeQuery(DataType.MAP, QueryType.EXISTS, maps, query::existsMap));
+    }
+
+    /**
+     * 지정된 {@link ClearQuery}에 맞는 {@link ClearData}가 존재하는지 확인합니다.
+     *
+     * @param query {@link ClearQuery} 객체로 지정된 검색 조건입니다.
+     * @return 검색 조건을 만족하는 {@link ClearData}가 하나라도 있을 경우 {@code true}로 완료됩니다.
+     */
+    public CompletableFuture<Boolean> exists(ClearQuery query) {
+        return getClearIndex().thenApply(index -> timeQuery(DataType.CLEAR, QueryType.EXISTS, index, query::existsClear));
+    }
+
+    /**
+     * 지정된 {@link UserQuery}에 맞는 {@link UserData}가 존재하는지 확인합니다.
+     *
+     * @param query {@link UserQuery} 객체로 지정된 검색 조건입니다.
+     * @return 검색 조건을 만족하는 {@link UserData}가 하나라도 있을 경우 {@code true}로 완료됩니다.
+     */
+    public CompletableFuture<Boolean> exists(UserQuery query) {
+        return getUsers().thenApply(users -> timeQuery(DataType.USER, QueryType.EXISTS, users, query::existsUser));
+    }
+
+    private <S, T> T timeQuery(DataType type, QueryType queryType, S data, Function<? super S, ? extends T> query) {
+        return adofaiGG.getLoadManager().timeQuery(type, queryType, data, query);
+    }
+
+    private CompletableFuture<Snapshot> mapSnapshot() {
+        return snapshot(DataType.MAP, adofaiGG.getLoadManager().lastMapDataLoadTime, snapshot -> snapshot.getMaps() != null);
+    }
+
+    private CompletableFuture<Snapshot> clearSnapshot() {
+        return snapshot(DataType.CLEAR, adofaiGG.getLoadManager().lastClearDataLoadTime, snapshot -> snapshot.getClearIndex() != null);
+    }
+
+    private CompletableFuture<Snapshot> userSnapshot() {
+        return snapshot(DataType.USER, adofaiGG.getLoadManager().lastUserDataLoadTime, snapshot -> snapshot.getUsers() != null);
+    }
+
+    private CompletableFuture<Snapshot> snapshot(DataType type, long lastLoadTime, Predicate<Snapshot> loaded) {
+        LoadManager loadManager = adofaiGG.getLoadManager();
+        CompletableFuture<Snapshot> future = loadManager.getPolicy(type).isStale(lastLoadTime, System.currentTimeMillis()) ?
+            loadManager.refreshAsync(type) : CompletableFuture.completedFuture(loadManager.snapshot);
+        return future.thenApply(snapshot -> {
+            if(!loaded.test(snapshot)) throw new DataNotLoaded();
+            return snapshot;
+        });
+    }
+}
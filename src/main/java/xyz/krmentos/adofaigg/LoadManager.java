@@ -28,27 +28,62 @@
 
 package xyz.krmentos.adofaigg;
 
-import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonParser;
 import xyz.krmentos.adofaigg.data.ClearData;
+import xyz.krmentos.adofaigg.data.ClearStore;
+import xyz.krmentos.adofaigg.data.GvizTable;
+import xyz.krmentos.adofaigg.data.LoadContext;
 import xyz.krmentos.adofaigg.data.MapData;
 import xyz.krmentos.adofaigg.data.UserData;
+import xyz.krmentos.adofaigg.exception.RateLimited;
+import xyz.krmentos.adofaigg.exception.SnapshotNotFound;
+import xyz.krmentos.adofaigg.exception.SourceUnavailable;
+import xyz.krmentos.adofaigg.metrics.Metrics;
+import xyz.krmentos.adofaigg.metrics.QueryType;
+import xyz.krmentos.adofaigg.metrics.SimpleMetrics;
+import xyz.krmentos.adofaigg.setting.DataType;
 import xyz.krmentos.adofaigg.setting.LoadOption;
-import lombok.Cleanup;
+import xyz.krmentos.adofaigg.setting.RefreshPolicy;
+import xyz.krmentos.adofaigg.setting.RetryPolicy;
+import xyz.krmentos.adofaigg.setting.StorageOption;
+import xyz.krmentos.adofaigg.source.DataSource;
+import xyz.krmentos.adofaigg.source.GvizDataSource;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 /**
  * 이 클래스는 Adofai.gg API에서 맵 과 클리어 데이터를 받아오는 역할을 합니다.
  *
- * <p>기본적으로 Google Sheets를 통해 데이터를 받아오도록 되어 있습니다.
+ * <p>기본적으로 Google Sheets를 통해 데이터를 받아오도록 되어 있으며, {@link DataSource}를 지정하여 다른 곳에서 데이터를 받아올 수 있습니다.
  *
  * <p>{@link AdofaiGG} 객체를 통해 설정된 옵션에 따라 데이터를 주기적으로 로드할 수 있습니다.
  *
+ * <p>{@link AdofaiGG}는 {@link #acquire(RefreshPolicy, RefreshPolicy, RefreshPolicy)}로 같은 주소와 구성을 사용하는 LoadManager를 공유하므로,
+ * 여러 {@link AdofaiGG} 개체를 생성해도 데이터는 한 번만 받아오고 하나의 {@link Snapshot}에 저장됩니다.
+ *
  * <p>데이터를 수동으로 받아오기 위해 {@link #loadMapData()}와 {@link #loadClearData()}와 {@link #loadUserData()}를 사용할 수 있습니다.
  *
  * @author Jongyeol
@@ -59,101 +94,950 @@ import java.net.URL;
  */
 public class LoadManager {
 
-    private static String url = "https://docs.google.com/spreadsheets/d/1MOz5cmMpYwpBB95DK1Udcti_8eOrswnxWzFurhAz0yg/gviz/tq?tqx=out:json&tq&gid=";
-    private Thread thread;
-    private final AdofaiGG adofaiGG;
-    MapData[] mapData;
-    long lastMapDataLoadTime;
-    ClearData[] clearData;
-    long lastClearDataLoadTime;
-    UserData[] userData;
-    long lastUserDataLoadTime;
+    private static final Map<Key, CompletableFuture<LoadManager>> SHARED = new HashMap<>();
+    private static ScheduledExecutorService defaultScheduler;
+    private ScheduledExecutorService scheduler;
+    private final ScheduledFuture<?>[] schedules = new ScheduledFuture<?>[DataType.values().length];
+    private int generation;
+    private volatile double jitter = 0.1;
+    private final DataSource dataSource;
+    private final RefreshPolicy[] policies;
+    private Key key;
+    private int references;
+    private volatile boolean closed;
+    private volatile StorageOption storageOption = StorageOption.HEAP;
+    private volatile Executor decodeExecutor;
+    volatile Snapshot snapshot = Snapshot.EMPTY;
+    volatile long lastMapDataLoadTime;
+    volatile long lastClearDataLoadTime;
+    volatile long lastUserDataLoadTime;
+    private LoadContext mapContext = new LoadContext();
+    private LoadContext clearContext = new LoadContext();
+    private LoadContext userContext = new LoadContext();
+    private final Object publishLock = new Object();
+    private final Deque<Snapshot> history = new ArrayDeque<>();
+    private int historySize = 1;
+    private Duration historyAge;
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final CompletableFuture<Snapshot>[] inFlight = new CompletableFuture[DataType.values().length];
+    private volatile RetryPolicy retryPolicy = RetryPolicy.DEFAULT;
+    private volatile Duration refreshWait = Duration.ofSeconds(10);
+    private volatile Metrics metrics = Metrics.NONE;
+    private final int[] failures = new int[DataType.values().length];
+    private final long[] openUntil = new long[DataType.values().length];
+    private final Throwable[] lastFailures = new Throwable[DataType.values().length];
+    private final List<SnapshotListener> listeners = new CopyOnWriteArrayList<>();
+    private CompletableFuture<Void> events = CompletableFuture.completedFuture(null);
+    private final Object[][] hashedRows = new Object[DataType.values().length][];
+    private final long[][] rowHashes = new long[DataType.values().length][];
 
     /**
      * LoadManager 생성자입니다.
      *
-     * @param adofaiGG {@link AdofaiGG} 객체를 전달받아 초기화합니다.
+     * @param adofaiGG {@link AdofaiGG} 객체의 설정을 전달받아 초기화합니다.
      */
     public LoadManager(AdofaiGG adofaiGG) {
-        this.adofaiGG = adofaiGG;
-        reloadSetting();
+        this(adofaiGG.getLoadManager().getDataSource(), adofaiGG.getMapPolicy(), adofaiGG.getClearPolicy(), adofaiGG.getUserPolicy());
+    }
+
+    /**
+     * 설정한 구성으로 LoadManager를 생성합니다. 생성된 LoadManager는 다른 개체와 공유되지 않습니다.
+     *
+     * @param mapPolicy 맵 데이터를 받아오는 정책입니다.
+     * @param clearPolicy 클리어 데이터를 받아오는 정책입니다.
+     * @param userPolicy 유저 데이터를 받아오는 정책입니다.
+     */
+    public LoadManager(RefreshPolicy mapPolicy, RefreshPolicy clearPolicy, RefreshPolicy userPolicy) {
+        this(new GvizDataSource(), mapPolicy, clearPolicy, userPolicy);
+    }
+
+    /**
+     * 지정된 데이터 소스에서 데이터를 받아오는 LoadManager를 생성합니다. 생성된 LoadManager는 다른 개체와 공유되지 않습니다.
+     *
+     * @param dataSource 데이터를 받아올 {@link DataSource}입니다.
+     * @param mapPolicy 맵 데이터를 받아오는 정책입니다.
+     * @param clearPolicy 클리어 데이터를 받아오는 정책입니다.
+     * @param userPolicy 유저 데이터를 받아오는 정책입니다.
+     * @throws IllegalArgumentException 데이터 소스가 null일 경우 예외가 발생합니다.
+     */
+    public LoadManager(DataSource dataSource, RefreshPolicy mapPolicy, RefreshPolicy clearPolicy, RefreshPolicy userPolicy) {
+        this(dataSource, mapPolicy, clearPolicy, userPolicy, true);
+    }
+
+    private LoadManager(DataSource dataSource, RefreshPolicy mapPolicy, RefreshPolicy clearPolicy, RefreshPolicy userPolicy, boolean start) {
+        if(dataSource == null) throw new IllegalArgumentException("dataSource cannot be null");
+        this.dataSource = dataSource;
+        policies = new RefreshPolicy[] {mapPolicy, clearPolicy, userPolicy};
+        if(start) reloadSetting();
+    }
+
+    /**
+     * 같은 주소와 구성을 사용하는 공유된 LoadManager를 반환합니다. 없을 경우 새로 생성합니다.
+     *
+     * <p>공유된 LoadManager는 하나의 스케줄과 하나의 {@link Snapshot}을 사용하며, 참조 수를 기록합니다.
+     * 반환받은 LoadManager를 더 이상 사용하지 않을 경우 {@link #release()}를 호출해야 하며,
+     * 마지막 참조가 해제되면 LoadManager가 종료되고 목록에서 제거됩니다.
+     *
+     * @param mapPolicy 맵 데이터를 받아오는 정책입니다.
+     * @param clearPolicy 클리어 데이터를 받아오는 정책입니다.
+     * @param userPolicy 유저 데이터를 받아오는 정책입니다.
+     * @return 공유된 LoadManager입니다.
+     */
+    public static LoadManager acquire(RefreshPolicy mapPolicy, RefreshPolicy clearPolicy, RefreshPolicy userPolicy) {
+        return acquire(new GvizDataSource(), mapPolicy, clearPolicy, userPolicy);
     }
 
     /**
-     * 설정을 다시 로드하고, AdofaiGG 객체의 데이터를 받아오는 옵션에 따라 스레드를 시작합니다.
+     * 같은 데이터 소스와 구성을 사용하는 공유된 LoadManager를 반환합니다. 없을 경우 새로 생성합니다.
+     *
+     * <p>새로 생성할 경우 목록에는 먼저 등록만 하고, {@link LoadOption#LOAD_ONLY_ONCE}인 데이터를 받아오는 처음 설정은 목록의 잠금 밖에서 실행합니다.
+     * 따라서 다른 구성의 LoadManager를 얻거나 해제하는 스레드는 기다리지 않으며, 같은 구성을 요청한 스레드만 처음 설정이 끝날 때까지 기다립니다.
+     * 처음 설정에 실패하면 목록에서 제거되므로 다음 호출에서 다시 생성합니다.
+     *
+     * @see #acquire(RefreshPolicy, RefreshPolicy, RefreshPolicy)
+     * @param dataSource 데이터를 받아올 {@link DataSource}입니다.
+     * @param mapPolicy 맵 데이터를 받아오는 정책입니다.
+     * @param clearPolicy 클리어 데이터를 받아오는 정책입니다.
+     * @param userPolicy 유저 데이터를 받아오는 정책입니다.
+     * @return 공유된 LoadManager입니다.
+     * @throws IllegalArgumentException 데이터 소스가 null일 경우 예외가 발생합니다.
+     * @throws RuntimeException 처음 설정에서 데이터를 받아오지 못한 경우 {@link #load(DataType)}와 같은 예외가 발생합니다.
+     */
+    public static LoadManager acquire(DataSource dataSource, RefreshPolicy mapPolicy, RefreshPolicy clearPolicy, RefreshPolicy userPolicy) {
+        if(dataSource == null) throw new IllegalArgumentException("dataSource cannot be null");
+        Key key = new Key(dataSource, mapPolicy, clearPolicy, userPolicy);
+        while(true) {
+            CompletableFuture<LoadManager> future;
+            boolean created = false;
+            synchronized(SHARED) {
+                future = SHARED.get(key);
+                if(future == null) {
+                    future = new CompletableFuture<>();
+                    SHARED.put(key, future);
+                    created = true;
+                } else if(future.isDone()) {
+                    LoadManager manager = join(future);
+                    manager.references++;
+                    return manager;
+                }
+            }
+            if(created) return create(key, future);
+            join(future);
+        }
+    }
+
+    /**
+     * 목록에 등록된 LoadManager를 생성하고 처음 설정을 실행합니다. 목록의 잠금 밖에서 호출됩니다.
      */
-    public void reloadSetting() {
-        if(thread != null) {
-            thread.interrupt();
-            thread = null;
+    private static LoadManager create(Key key, CompletableFuture<LoadManager> future) {
+        LoadManager manager = new LoadManager(key.dataSource(), key.mapPolicy(), key.clearPolicy(), key.userPolicy(), false);
+        try {
+            manager.reloadSetting();
+        } catch (RuntimeException | Error e) {
+            manager.close();
+            synchronized(SHARED) {
+                SHARED.remove(key, future);
+            }
+            future.completeExceptionally(e);
+            throw e;
         }
-        if(adofaiGG.getLoadOption() == LoadOption.LOAD_FOR_TIME) {
-            thread = new Thread(this::loadSchedule, "Adofai.gg-API-LoadThread");
-            thread.start();
+        synchronized(SHARED) {
+            manager.key = key;
+            manager.references++;
         }
-        if(adofaiGG.getLoadOption() == LoadOption.LOAD_ONLY_ONCE) {
-            loadMapData();
-            loadClearData();
+        future.complete(manager);
+        return manager;
+    }
+
+    /**
+     * 이 LoadManager의 참조를 해제합니다.
+     *
+     * <p>공유된 LoadManager는 마지막 참조가 해제될 때 종료되며, 공유되지 않은 LoadManager는 바로 종료됩니다.
+     */
+    public void release() {
+        synchronized(SHARED) {
+            if(key != null) {
+                if(--references > 0) return;
+                SHARED.remove(key);
+                key = null;
+            }
+        }
+        close();
+    }
+
+    /**
+     * 데이터를 받아오는 스케줄을 종료합니다. 이미 불러온 {@link Snapshot}은 그대로 남습니다.
+     */
+    public synchronized void close() {
+        closed = true;
+        cancelSchedule();
+    }
+
+    /**
+     * 이 LoadManager가 종료되었는지 확인합니다.
+     *
+     * @return 종료된 경우 {@code true}를 반환합니다.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 설정을 다시 로드하고, 데이터마다 설정된 {@link RefreshPolicy}에 따라 스케줄을 시작합니다.
+     *
+     * <p>여러 데이터를 함께 받아와야 할 경우 우선순위가 높은 데이터부터 받아옵니다.
+     */
+    public synchronized void reloadSetting() {
+        cancelSchedule();
+        if(closed) return;
+        DataType[] order = getLoadOrder();
+        int current = generation;
+        for(DataType type : order) {
+            if(getPolicy(type).getLoadOption() == LoadOption.LOAD_FOR_TIME)
+                schedules[type.ordinal()] = getScheduler().schedule(() -> loadSchedule(type, current), 0, TimeUnit.MILLISECONDS);
         }
+        for(DataType type : order) if(getPolicy(type).getLoadOption() == LoadOption.LOAD_ONLY_ONCE) load(type);
     }
 
     /**
-     * 주기적으로 데이터를 받아오는 스케줄을 설정합니다.
+     * 데이터를 비동기로 받아오기 시작하고, 받아오기가 끝나면 다음 스케줄을 설정합니다.
+     * 스케줄러의 스레드는 데이터를 받아오는 동안 기다리지 않으므로, 한 데이터가 느려도 다른 데이터와 다른 LoadManager의 스케줄은 늦어지지 않습니다.
+     *
+     * <p>데이터를 받아오는 중 예외가 발생해도 다음 스케줄은 설정되며, 발생한 예외는 {@link #getLastFailure(DataType)}로 확인할 수 있습니다.
+     * 받아오는 것이 멈춰 있을 경우 다시 받아올 수 있을 때까지 기다립니다.
+     *
+     * @param type 받아올 데이터의 종류입니다.
+     * @param scheduled 스케줄이 설정될 때의 세대입니다. 그 사이 설정이 다시 로드되었을 경우 다음 스케줄을 설정하지 않습니다.
      */
-    private void loadSchedule() {
+    private void loadSchedule(DataType type, int scheduled) {
+        CompletableFuture<Snapshot> future;
         try {
-            while(!Thread.currentThread().isInterrupted()) {
-                loadMapData();
-                loadClearData();
-                loadUserData();
-                Thread.sleep(adofaiGG.getLoadTime());
+            future = loadAsync(type);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((snapshot, throwable) -> reschedule(type, scheduled));
+    }
+
+    private synchronized void reschedule(DataType type, int scheduled) {
+        if(!closed && scheduled == generation)
+            schedules[type.ordinal()] = getScheduler().schedule(() -> loadSchedule(type, scheduled),
+                Math.max(nextDelay(getPolicy(type).getLoadTime()), getCircuitDelay(type)), TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelSchedule() {
+        generation++;
+        for(int i = 0; i < schedules.length; i++) {
+            if(schedules[i] != null) {
+                schedules[i].cancel(false);
+                schedules[i] = null;
             }
-        } catch (InterruptedException ignored) {
         }
     }
 
+    private DataType[] getLoadOrder() {
+        DataType[] order = DataType.values();
+        Arrays.sort(order, Comparator.comparingInt((DataType type) -> getPolicy(type).getPriority()).reversed());
+        return order;
+    }
+
+    private long nextDelay(long loadTime) {
+        double jitter = this.jitter;
+        if(jitter == 0) return loadTime;
+        return Math.round(loadTime * (1 + jitter * (ThreadLocalRandom.current().nextDouble() * 2 - 1)));
+    }
+
+    /**
+     * 스케줄을 설정하지 않은 모든 LoadManager가 사용하는 스케줄러를 반환합니다.
+     *
+     * <p>설정되지 않은 경우 하나의 데몬 스레드를 사용하는 스케줄러를 생성하므로,
+     * LoadManager의 수와 관계없이 스케줄을 실행하는 스레드는 하나만 사용되며 JVM의 종료를 막지 않습니다.
+     * 이 스레드는 데이터를 받아오기 시작하기만 하며, 응답을 기다리고 변환하는 작업은 {@link DataSource}와 {@link #getDecodeExecutor()}에서 실행됩니다.
+     *
+     * @return 기본 스케줄러입니다.
+     */
+    public static synchronized ScheduledExecutorService getDefaultScheduler() {
+        if(defaultScheduler == null) {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "Adofai.gg-API-LoadThread");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            defaultScheduler = executor;
+        }
+        return defaultScheduler;
+    }
+
+    /**
+     * 스케줄러를 설정하지 않은 모든 LoadManager가 사용할 스케줄러를 설정합니다.
+     *
+     * <p>설정은 이후에 시작되는 스케줄부터 적용되며, 설정된 스케줄러의 종료는 호출한 쪽에서 관리해야 합니다.
+     *
+     * @param scheduler 기본 스케줄러입니다. null일 경우 다음에 필요할 때 기본 스케줄러를 새로 생성합니다.
+     */
+    public static synchronized void setDefaultScheduler(ScheduledExecutorService scheduler) {
+        defaultScheduler = scheduler;
+    }
+
     /**
-     * 맵 데이터를 받아오고 배열에 저장합니다.
+     * 이 LoadManager가 사용하는 스케줄러를 반환합니다.
+     *
+     * @return 설정된 스케줄러입니다. 설정되지 않은 경우 {@link #getDefaultScheduler()}를 반환합니다.
+     */
+    public synchronized ScheduledExecutorService getScheduler() {
+        return scheduler != null ? scheduler : getDefaultScheduler();
+    }
+
+    /**
+     * 이 LoadManager가 사용할 스케줄러를 설정하고 스케줄을 다시 시작합니다.
+     *
+     * @param scheduler 사용할 스케줄러입니다. null일 경우 {@link #getDefaultScheduler()}를 사용합니다.
+     */
+    public synchronized void setScheduler(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+        reloadSetting();
+    }
+
+    /**
+     * 데이터를 받아오는 간격에 적용되는 무작위 편차의 비율을 반환합니다.
+     *
+     * @return 편차의 비율입니다.
+     */
+    public double getJitter() {
+        return jitter;
+    }
+
+    /**
+     * 데이터를 받아오는 간격에 적용되는 무작위 편차의 비율을 설정합니다.
+     *
+     * <p>간격은 매번 {@code loadTime * (1 ± jitter)} 사이에서 정해지므로, 여러 서버에서 같은 시간에 Google Sheets에 요청하지 않습니다.
+     * 설정은 다음 간격부터 적용됩니다.
+     *
+     * @param jitter 편차의 비율입니다. 기본값은 {@code 0.1}입니다.
+     * @throws IllegalArgumentException 비율이 0보다 작거나 1보다 크거나 같을 경우 예외가 발생합니다.
+     */
+    public void setJitter(double jitter) {
+        if(!(jitter >= 0 && jitter < 1)) throw new IllegalArgumentException("jitter must be between 0 (inclusive) and 1 (exclusive)");
+        this.jitter = jitter;
+    }
+
+    /**
+     * 데이터를 받아오는 {@link DataSource}를 반환합니다.
+     *
+     * @return 데이터를 받아오는 {@link DataSource}입니다.
+     */
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * 지정된 데이터를 받아오는 정책을 반환합니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @return 데이터를 받아오는 정책입니다.
+     */
+    public RefreshPolicy getPolicy(DataType type) {
+        return policies[type.ordinal()];
+    }
+
+    /**
+     * 불러온 클리어 데이터를 저장하는 방식을 반환합니다.
+     *
+     * @return 클리어 데이터를 저장하는 방식입니다.
+     */
+    public StorageOption getStorageOption() {
+        return storageOption;
+    }
+
+    /**
+     * 불러온 클리어 데이터를 저장하는 방식을 설정합니다. 설정은 다음에 클리어 데이터를 받아올 때부터 적용됩니다.
+     *
+     * @param storageOption 클리어 데이터를 저장하는 방식입니다.
+     * @throws IllegalArgumentException 저장 방식이 null일 경우 예외가 발생합니다.
+     */
+    public void setStorageOption(StorageOption storageOption) {
+        if(storageOption == null) throw new IllegalArgumentException("storageOption cannot be null");
+        this.storageOption = storageOption;
+    }
+
+    /**
+     * 받아온 데이터의 행을 나누어 변환할 실행기를 반환합니다.
+     *
+     * @return 행을 변환할 실행기입니다. 설정되지 않은 경우 null을 반환합니다.
+     */
+    public Executor getDecodeExecutor() {
+        return decodeExecutor;
+    }
+
+    /**
+     * 받아온 데이터의 행을 나누어 변환할 실행기를 설정합니다. 설정은 다음에 데이터를 받아올 때부터 적용됩니다.
+     *
+     * @see LoadContext#setExecutor(Executor)
+     * @param decodeExecutor 행을 변환할 실행기입니다. null일 경우 데이터를 받아오는 스레드에서 모든 행을 변환합니다.
+     */
+    public void setDecodeExecutor(Executor decodeExecutor) {
+        this.decodeExecutor = decodeExecutor;
+    }
+
+    /**
+     * 데이터를 받아오지 못했을 때 다시 시도하는 정책을 반환합니다.
+     *
+     * @return 다시 시도하는 정책입니다.
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * 데이터를 읽을 때 새로 받아오는 데이터를 기다리는 최대 시간을 반환합니다.
+     *
+     * @return 기다리는 최대 시간입니다.
+     */
+    public Duration getRefreshWait() {
+        return refreshWait;
+    }
+
+    /**
+     * 데이터를 읽을 때 새로 받아오는 데이터를 기다리는 최대 시간을 설정합니다.
+     *
+     * <p>{@link LoadOption#LOAD_EVERY_ACTIVE}나 {@link LoadOption#LOAD_ACTIVE_FOR_TIME}으로 데이터를 읽을 때 이전에 받아온 데이터가 있다면,
+     * 이 시간 안에 받아오지 못하거나 받아오기에 실패한 경우 마지막으로 받아온 데이터를 반환합니다.
+     * 다시 시도하는 동안에도 읽는 스레드는 이 시간까지만 기다리며, 받아오기는 백그라운드에서 계속됩니다.
+     * 처음 받아오는 데이터는 이전 데이터가 없으므로 받아오기가 끝날 때까지 기다립니다.
+     *
+     * @param refreshWait 기다리는 최대 시간입니다. 기본값은 10초이며, {@link Duration#ZERO}일 경우 기다리지 않고 마지막으로 받아온 데이터를 바로 반환합니다.
+     * @throws IllegalArgumentException 시간이 null이거나 음수일 경우 예외가 발생합니다.
+     */
+    public void setRefreshWait(Duration refreshWait) {
+        if(refreshWait == null || refreshWait.isNegative()) throw new IllegalArgumentException("refreshWait cannot be null or negative");
+        this.refreshWait = refreshWait;
+    }
+
+    /**
+     * 데이터를 받아오지 못했을 때 다시 시도하는 정책을 설정합니다. 설정은 다음에 데이터를 받아올 때부터 적용됩니다.
+     *
+     * @see RetryPolicy
+     * @param retryPolicy 다시 시도하는 정책입니다. 기본값은 {@link RetryPolicy#DEFAULT}입니다.
+     * @throws IllegalArgumentException 정책이 null일 경우 예외가 발생합니다.
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        if(retryPolicy == null) throw new IllegalArgumentException("retryPolicy cannot be null");
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * 측정된 값을 전달받는 {@link Metrics}를 반환합니다.
+     *
+     * @return 설정된 {@link Metrics}입니다. 설정되지 않은 경우 {@link Metrics#NONE}을 반환합니다.
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * 데이터를 받아오고 조회하는 동안 측정된 값을 전달받을 {@link Metrics}를 설정합니다.
+     *
+     * <p>응답을 받아오는 시간과 크기, 변환하는 시간과 변환되거나 제외된 행의 수, 받아오기의 성공과 실패,
+     * {@link AdofaiGG}와 {@link AdofaiGGAsync}에서 실행한 쿼리의 시간이 전달됩니다.
+     * 설정된 {@link Metrics}의 {@link Metrics#bind(LoadManager)}가 호출됩니다.
+     *
+     * @see SimpleMetrics
+     * @param metrics 측정된 값을 전달받을 {@link Metrics}입니다. null일 경우 기록하지 않습니다.
+     */
+    public void setMetrics(Metrics metrics) {
+        if(metrics == null) metrics = Metrics.NONE;
+        metrics.bind(this);
+        this.metrics = metrics;
+    }
+
+    /**
+     * 쿼리를 실행하고 걸린 시간을 {@link Metrics}에 기록합니다.
+     *
+     * @param type 조회할 데이터의 종류입니다.
+     * @param queryType 쿼리의 종류입니다.
+     * @param data 조회할 데이터입니다.
+     * @param query 조회할 데이터를 받아 쿼리를 실행하는 함수입니다.
+     * @return 쿼리의 결과입니다.
+     */
+    <S, T> T timeQuery(DataType type, QueryType queryType, S data, Function<? super S, ? extends T> query) {
+        Metrics metrics = this.metrics;
+        if(metrics == Metrics.NONE) return query.apply(data);
+        long start = System.nanoTime();
+        T result = query.apply(data);
+        metrics.recordQuery(type, queryType, System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * 지정된 데이터를 마지막으로 받아온 시각을 반환합니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @return 마지막으로 받아온 시각(밀리초)입니다. 받아온 적이 없을 경우 {@code 0}을 반환합니다.
+     */
+    public long getLastLoadTime(DataType type) {
+        return switch(type) {
+            case MAP -> lastMapDataLoadTime;
+            case CLEAR -> lastClearDataLoadTime;
+            case USER -> lastUserDataLoadTime;
+        };
+    }
+
+    /**
+     * 지정된 데이터를 마지막으로 받아온 후 지난 시간을 반환합니다.
+     *
+     * <p>데이터를 받아오지 못하는 동안에는 마지막으로 받아온 데이터를 계속 사용하므로, 이 값으로 데이터가 얼마나 오래되었는지 확인할 수 있습니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @return 지난 시간(밀리초)입니다. 받아온 적이 없을 경우 {@code -1}을 반환합니다.
+     */
+    public long getStaleness(DataType type) {
+        long lastLoadTime = getLastLoadTime(type);
+        return lastLoadTime == 0 ? -1 : System.currentTimeMillis() - lastLoadTime;
+    }
+
+    /**
+     * 지정된 데이터를 받아오는 중 마지막으로 발생한 예외를 반환합니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @return 마지막으로 발생한 예외입니다. 마지막 시도가 성공한 경우 null을 반환합니다.
+     */
+    public Throwable getLastFailure(DataType type) {
+        synchronized(failures) {
+            return lastFailures[type.ordinal()];
+        }
+    }
+
+    /**
+     * 지정된 데이터를 받아오는 것이 연속된 실패로 멈춰 있는지 확인합니다.
+     *
+     * @see RetryPolicy#getFailureThreshold()
+     * @param type 데이터의 종류입니다.
+     * @return 멈춰 있는 경우 {@code true}를 반환합니다.
+     */
+    public boolean isCircuitOpen(DataType type) {
+        synchronized(failures) {
+            return System.currentTimeMillis() < openUntil[type.ordinal()];
+        }
+    }
+
+    /**
+     * 현재 {@link Snapshot}을 반환합니다.
+     *
+     * @return 가장 최근에 불러온 데이터의 {@link Snapshot}입니다.
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 지정된 데이터를 받아오고 새로운 {@link Snapshot}에 저장합니다.
+     *
+     * @param type 받아올 데이터의 종류입니다.
+     * @throws RuntimeException 데이터 로드 중 IO예외가 발생한 경우 예외가 발생합니다.
+     * @throws JsonParseException 데이터가 Json형식이 아닐경우 예외가 발생합니다
+     * @throws SourceUnavailable 연속된 실패로 데이터를 받아오는 것이 멈춰 있을 경우 예외가 발생합니다.
+     * @throws RateLimited 요청 수 제한을 넘은 경우 예외가 발생합니다.
+     */
+    public void load(DataType type) {
+        join(loadAsync(type));
+    }
+
+    /**
+     * 맵 데이터를 받아오고 새로운 {@link Snapshot}에 저장합니다.
      */
     public void loadMapData() {
-        mapData = MapData.loadData(loadData(MapData.gid));
-        lastMapDataLoadTime = System.currentTimeMillis();
+        load(DataType.MAP);
     }
 
     /**
-     * 클리어 데이터를 받아오고 배열에 저장합니다.
+     * 클리어 데이터를 받아오고 새로운 {@link Snapshot}에 저장합니다.
      */
     public void loadClearData() {
-        clearData = ClearData.loadData(loadData(ClearData.gid));
-        lastClearDataLoadTime = System.currentTimeMillis();
+        load(DataType.CLEAR);
     }
 
     /**
-     * 유저 데이터를 받아오고 배열에 저장합니다.
+     * 유저 데이터를 받아오고 새로운 {@link Snapshot}에 저장합니다.
      */
     public void loadUserData() {
-        userData = UserData.loadData(loadData(UserData.gid));
-        lastUserDataLoadTime = System.currentTimeMillis();
+        load(DataType.USER);
     }
 
     /**
-     * 지정된 gid에 해당하는 데이터를 로드하여 JsonObject로 반환합니다.
+     * 보관할 이전 {@link Snapshot}의 수와 기간을 설정합니다.
      *
-     * @param gid 로드할 데이터의 gid입니다.
-     * @return 로드된 데이터를 담고 있는 JsonObject입니다.
-     * @throws RuntimeException 데이터 로드 중 IO예외가 발생한 경우 예외가 발생합니다.
-     * @throws JsonParseException 데이터가 Json형식이 아닐경우 예외가 발생합니다
+     * <p>{@link Snapshot}은 바뀌지 않은 개체를 이전 {@link Snapshot}과 공유하며, 새로 받아온 데이터가 이전과 모두 같으면 배열과 색인도 공유합니다.
+     * 데이터가 바뀐 {@link Snapshot}은 행 수만큼의 배열과 색인을 따로 가지며, 클리어 데이터를 {@link StorageOption#OFF_HEAP}이나
+     * {@link StorageOption#MAPPED_FILE}로 저장하는 경우 클리어 데이터 전체를 담은 버퍼도 따로 가집니다.
+     * 따라서 이 경우 보관할 수를 작게 유지하는 것이 좋습니다. 기간을 지정하면 그 기간이 시작될 때 사용되던 {@link Snapshot}까지 보관하므로,
+     * 기간 안의 모든 시각을 {@link #getSnapshot(Instant)}로 조회할 수 있습니다.
+     *
+     * @param size 보관할 최대 {@link Snapshot} 수입니다. 현재 {@link Snapshot}을 포함하며, 기본값은 {@code 1}입니다.
+     * @param age 보관할 기간입니다. null일 경우 기간을 제한하지 않습니다.
+     * @throws IllegalArgumentException 수가 1보다 작거나 기간이 음수일 경우 예외가 발생합니다.
+     */
+    public void setHistoryLimit(int size, Duration age) {
+        if(size < 1) throw new IllegalArgumentException("size must be greater than 0");
+        if(age != null && age.isNegative()) throw new IllegalArgumentException("age cannot be negative");
+        synchronized(publishLock) {
+            historySize = size;
+            historyAge = age;
+            trimHistory();
+        }
+    }
+
+    /**
+     * 보관할 최대 {@link Snapshot} 수를 반환합니다.
+     *
+     * @return 보관할 최대 {@link Snapshot} 수입니다.
+     */
+    public int getHistorySize() {
+        synchronized(publishLock) {
+            return historySize;
+        }
+    }
+
+    /**
+     * 이전 {@link Snapshot}을 보관할 기간을 반환합니다.
+     *
+     * @return 보관할 기간입니다. 기간을 제한하지 않을 경우 null을 반환합니다.
+     */
+    public Duration getHistoryAge() {
+        synchronized(publishLock) {
+            return historyAge;
+        }
+    }
+
+    /**
+     * 보관된 {@link Snapshot}을 오래된 순서로 반환합니다. 마지막 요소는 현재 {@link Snapshot}입니다.
+     *
+     * @return 보관된 {@link Snapshot}의 목록입니다.
+     */
+    public List<Snapshot> getHistory() {
+        synchronized(publishLock) {
+            return new ArrayList<>(history);
+        }
+    }
+
+    /**
+     * 지정된 버전의 {@link Snapshot}을 반환합니다.
+     *
+     * @param version 찾을 {@link Snapshot}의 버전입니다.
+     * @return 지정된 버전의 {@link Snapshot}입니다.
+     * @throws SnapshotNotFound 지정된 버전의 {@link Snapshot}이 보관되어 있지 않을 경우 예외가 발생합니다.
+     */
+    public Snapshot getSnapshot(long version) {
+        synchronized(publishLock) {
+            for(Snapshot snapshot : history) if(snapshot.getVersion() == version) return snapshot;
+        }
+        throw new SnapshotNotFound("No snapshot of version " + version);
+    }
+
+    /**
+     * 지정된 시각에 사용되던 {@link Snapshot}을 반환합니다.
+     *
+     * @param time 찾을 시각입니다.
+     * @return 지정된 시각 이전에 만들어진 {@link Snapshot} 중 가장 최근의 {@link Snapshot}입니다.
+     * @throws SnapshotNotFound 지정된 시각에 사용되던 {@link Snapshot}이 보관되어 있지 않을 경우 예외가 발생합니다.
+     */
+    public Snapshot getSnapshot(Instant time) {
+        long millis = time.toEpochMilli();
+        synchronized(publishLock) {
+            Iterator<Snapshot> iterator = history.descendingIterator();
+            while(iterator.hasNext()) {
+                Snapshot snapshot = iterator.next();
+                if(snapshot.getTime() <= millis) return snapshot;
+            }
+        }
+        throw new SnapshotNotFound("No snapshot at " + time);
+    }
+
+    private void trimHistory() {
+        while(history.size() > historySize) history.removeFirst();
+        if(historyAge == null) return;
+        long cutoff = System.currentTimeMillis() - historyAge.toMillis();
+        while(history.size() > 1) {
+            Iterator<Snapshot> iterator = history.iterator();
+            iterator.next();
+            if(iterator.next().getTime() > cutoff) break;
+            history.removeFirst();
+        }
+    }
+
+    /**
+     * 지정된 데이터를 비동기로 받아오고 새로운 {@link Snapshot}에 저장합니다.
+     *
+     * <p>데이터는 {@link DataSource#load(DataType, Executor)}로 받아오므로 호출한 스레드는 네트워크나 파일을 기다리지 않으며,
+     * 응답을 읽고 변환하는 작업은 {@link #getDecodeExecutor()}에서, 설정되지 않은 경우 {@link ForkJoinPool#commonPool()}에서 실행됩니다.
+     * 같은 데이터를 받아오는 중에 다시 호출할 경우 새로 요청하지 않고 진행 중인 결과를 반환합니다.
+     *
+     * <p>받아오기에 실패하면 {@link #getRetryPolicy()}에 따라 기다린 후 다시 시도하며, 연속된 실패로 받아오는 것이 멈춰 있을 경우
+     * 데이터 소스에 요청하지 않고 {@link SourceUnavailable}로 바로 완료됩니다.
+     *
+     * @param type 받아올 데이터의 종류입니다.
+     * @return 데이터가 저장된 {@link Snapshot}을 반환하는 {@link CompletableFuture}입니다.
+     */
+    public CompletableFuture<Snapshot> loadAsync(DataType type) {
+        int index = type.ordinal();
+        synchronized(inFlight) {
+            CompletableFuture<Snapshot> current = inFlight[index];
+            if(current != null) return current;
+            SourceUnavailable unavailable = checkCircuit(type);
+            Metrics metrics = this.metrics;
+            if(unavailable != null) {
+                metrics.recordCircuitRejected(type);
+                return CompletableFuture.failedFuture(unavailable);
+            }
+            Executor executor = decodeExecutor == null ? ForkJoinPool.commonPool() : decodeExecutor;
+            CompletableFuture<Snapshot> future = attempt(type, executor, retryPolicy, metrics, 1);
+            inFlight[index] = future;
+            future.whenComplete((snapshot, throwable) -> {
+                synchronized(inFlight) {
+                    if(inFlight[index] == future) inFlight[index] = null;
+                }
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                if(cause == null) metrics.recordRefreshSuccess(type);
+                else if(!(cause instanceof RateLimited)) metrics.recordRefreshFailure(type, cause);
+            });
+            return future;
+        }
+    }
+
+    /**
+     * 데이터를 받아와야 할 때 호출되며, 받아오지 못한 경우 마지막으로 받아온 데이터가 있다면 그 데이터를 계속 사용합니다.
+     *
+     * <p>마지막으로 받아온 데이터가 있다면 {@link #getRefreshWait()}까지만 기다리고, 그 안에 받아오지 못하면 받아오기를 백그라운드에서 계속하며
+     * 현재 {@link Snapshot}을 반환합니다. 받아오는 것이 멈춰 있는 동안에는 기다리지 않고 바로 반환하므로,
+     * 데이터 소스에 장애가 있어도 데이터를 읽는 스레드가 쌓이지 않습니다. 요청 수 제한으로 {@link RateLimited}가 발생한 경우에도 같습니다.
+     *
+     * @param type 받아올 데이터의 종류입니다.
+     * @return 새로 받아온 {@link Snapshot}이나 마지막으로 받아온 데이터가 있는 현재 {@link Snapshot}을 반환하는 {@link CompletableFuture}입니다.
+     */
+    CompletableFuture<Snapshot> refreshAsync(DataType type) {
+        if(getLastLoadTime(type) == 0) return loadAsync(type);
+        if(isCircuitOpen(type)) return CompletableFuture.completedFuture(snapshot);
+        CompletableFuture<Snapshot> load = loadAsync(type);
+        if(load.isDone() && !load.isCompletedExceptionally()) return load;
+        long wait = refreshWait.toMillis();
+        if(wait == 0) return CompletableFuture.completedFuture(snapshot);
+        return load.copy().orTimeout(wait, TimeUnit.MILLISECONDS).exceptionally(throwable -> snapshot);
+    }
+
+    /**
+     * {@link #refreshAsync(DataType)}가 완료될 때까지 기다립니다.
+     *
+     * @param type 받아올 데이터의 종류입니다.
+     */
+    void refresh(DataType type) {
+        join(refreshAsync(type));
+    }
+
+    private CompletableFuture<Snapshot> attempt(DataType type, Executor executor, RetryPolicy retryPolicy, Metrics metrics, int attempt) {
+        long start = System.nanoTime();
+        return dataSource.load(type, executor, attempt)
+            .thenApplyAsync(bytes -> {
+                metrics.recordFetch(type, bytes.length, System.nanoTime() - start);
+                return apply(type, bytes, metrics);
+            }, executor)
+            .exceptionallyCompose(throwable -> {
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                if(cause instanceof RateLimited) {
+                    metrics.recordThrottled(type);
+                    return CompletableFuture.failedFuture(cause);
+                }
+                metrics.recordAttemptFailure(type, attempt, cause);
+                boolean open = recordFailure(type, cause, retryPolicy);
+                if(open || closed || attempt >= retryPolicy.getMaxAttempts() || cause instanceof Error) return CompletableFuture.failedFuture(cause);
+                Executor delayed = CompletableFuture.delayedExecutor(retryPolicy.getBackoff(attempt), TimeUnit.MILLISECONDS, executor);
+                return CompletableFuture.runAsync(() -> {}, delayed).thenCompose(ignored -> attempt(type, executor, retryPolicy, metrics, attempt + 1));
+            });
+    }
+
+    private long getCircuitDelay(DataType type) {
+        synchronized(failures) {
+            return Math.max(0, openUntil[type.ordinal()] - System.currentTimeMillis());
+        }
+    }
+
+    private SourceUnavailable checkCircuit(DataType type) {
+        synchronized(failures) {
+            int index = type.ordinal();
+            if(System.currentTimeMillis() >= openUntil[index]) return null;
+            return new SourceUnavailable(type, openUntil[index], lastFailures[index]);
+        }
+    }
+
+    /**
+     * 실패를 기록하고, 연속된 실패가 기준을 넘으면 받아오는 것을 멈춥니다.
+     *
+     * @return 받아오는 것이 멈춘 경우 {@code true}를 반환합니다.
      */
-    private JsonObject loadData(int gid) {
+    private boolean recordFailure(DataType type, Throwable cause, RetryPolicy retryPolicy) {
+        synchronized(failures) {
+            int index = type.ordinal();
+            lastFailures[index] = cause;
+            if(++failures[index] < retryPolicy.getFailureThreshold()) return false;
+            openUntil[index] = System.currentTimeMillis() + retryPolicy.getOpenTime();
+            return true;
+        }
+    }
+
+    private void recordSuccess(DataType type) {
+        synchronized(failures) {
+            int index = type.ordinal();
+            failures[index] = 0;
+            openUntil[index] = 0;
+            lastFailures[index] = null;
+        }
+    }
+
+    private Snapshot apply(DataType type, byte[] bytes, Metrics metrics) {
+        long start = System.nanoTime();
+        GvizTable table = GvizTable.parse(bytes);
+        switch(type) {
+            case MAP -> {
+                LoadContext context = mapContext.next().setExecutor(decodeExecutor);
+                MapData[] mapData = MapData.loadData(table, context);
+                metrics.recordParse(type, mapData.length, context.getRejectedRows(), System.nanoTime() - start);
+                mapContext = context;
+                publish(DataType.MAP, snapshot -> snapshot.withMaps(mapData));
+                lastMapDataLoadTime = System.currentTimeMillis();
+            }
+            case CLEAR -> {
+                LoadContext context = clearContext.next().setExecutor(decodeExecutor);
+                StorageOption storageOption = this.storageOption;
+                ClearData[] clearData = storageOption == StorageOption.HEAP ? ClearData.loadData(table, context) : ClearStore.of(table, context, storageOption).getClears();
+                metrics.recordParse(type, clearData.length, context.getRejectedRows(), System.nanoTime() - start);
+                clearContext = context;
+                publish(DataType.CLEAR, snapshot -> snapshot.withClears(clearData));
+                lastClearDataLoadTime = System.currentTimeMillis();
+            }
+            case USER -> {
+                LoadContext context = userContext.next().setExecutor(decodeExecutor);
+                UserData[] userData = UserData.loadData(table, context);
+                metrics.recordParse(type, userData.length, context.getRejectedRows(), System.nanoTime() - start);
+                userContext = context;
+                publish(DataType.USER, snapshot -> snapshot.withUsers(userData));
+                lastUserDataLoadTime = System.currentTimeMillis();
+            }
+        }
+        recordSuccess(type);
+        return snapshot;
+    }
+
+    private void publish(DataType type, UnaryOperator<Snapshot> update) {
+        synchronized(publishLock) {
+            Snapshot previous = snapshot;
+            Snapshot current = update.apply(previous);
+            snapshot = current;
+            history.addLast(current);
+            trimHistory();
+            if(!listeners.isEmpty()) {
+                events = events.handle((ignored, throwable) -> null)
+                    .thenRunAsync(() -> notifyListeners(type, previous, current), this::executeEvent);
+            }
+        }
+    }
+
+    /**
+     * 리스너를 호출하는 작업을 {@link #getDecodeExecutor()}에서 실행하며, 실행기가 작업을 거부하거나 설정되지 않은 경우
+     * {@link ForkJoinPool#commonPool()}에서 실행합니다.
+     */
+    private void executeEvent(Runnable task) {
+        Executor executor = decodeExecutor;
+        if(executor != null) {
+            try {
+                executor.execute(task);
+                return;
+            } catch (RejectedExecutionException ignored) {
+            }
+        }
+        ForkJoinPool.commonPool().execute(task);
+    }
+
+    /**
+     * 바뀐 내용을 계산하여 모든 리스너에 전달합니다. {@link #events}에서 순서대로 하나씩 실행됩니다.
+     *
+     * <p>바뀐 내용을 계산하지 못하거나 리스너에서 {@link RuntimeException}이 발생하면 {@link Metrics}에 기록합니다.
+     * {@link Error}는 스레드의 {@link Thread.UncaughtExceptionHandler}에 전달한 후 다시 발생시키며,
+     * {@link #events}는 이전 작업의 결과와 관계없이 이어지므로 이후의 변경 사항도 계속 전달됩니다.
+     */
+    private void notifyListeners(DataType type, Snapshot previous, Snapshot current) {
+        int index = type.ordinal();
+        Metrics metrics = this.metrics;
         try {
-            URL url1 = new URL(url + gid);
-            HttpURLConnection connection = (HttpURLConnection) url1.openConnection();
-            @Cleanup InputStream in = connection.getInputStream();
-            String string = new String(in.readAllBytes());
-            string = string.replace("/*O_o*/\ngoogle.visualization.Query.setResponse(", "").replace(");", "");
-            return JsonParser.parseString(string).getAsJsonObject();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+            SnapshotDiff diff;
+            try {
+                Object[] previousRows = SnapshotDiff.getRows(previous, type);
+                Object[] currentRows = SnapshotDiff.getRows(current, type);
+                long[] before = previousRows == hashedRows[index] && rowHashes[index] != null ? rowHashes[index] : SnapshotDiff.hashRows(previousRows, type);
+                hashedRows[index] = null;
+                rowHashes[index] = null;
+                long[] after = SnapshotDiff.hashRows(currentRows, type);
+                hashedRows[index] = currentRows;
+                rowHashes[index] = after;
+                diff = SnapshotDiff.compute(type, previous, current, before, after);
+            } catch (RuntimeException e) {
+                metrics.recordDiffFailure(type, e);
+                return;
+            }
+            for(SnapshotListener listener : listeners) {
+                try {
+                    listener.onChange(diff);
+                } catch (RuntimeException e) {
+                    metrics.recordListenerFailure(type, e);
+                }
+            }
+        } catch (Error e) {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            throw e;
         }
     }
+
+    /**
+     * 데이터를 새로 받아올 때마다 바뀐 내용을 전달받을 리스너를 추가합니다.
+     *
+     * <p>리스너는 {@link #getDecodeExecutor()}에서, 설정되지 않은 경우 {@link ForkJoinPool#commonPool()}에서 비동기로 호출되며,
+     * 바뀐 내용은 리스너가 있을 때만 계산됩니다.
+     *
+     * @see SnapshotListener
+     * @param listener 추가할 리스너입니다.
+     * @throws IllegalArgumentException 리스너가 null일 경우 예외가 발생합니다.
+     */
+    public void addListener(SnapshotListener listener) {
+        if(listener == null) throw new IllegalArgumentException("listener cannot be null");
+        listeners.add(listener);
+    }
+
+    /**
+     * 추가한 리스너를 제거합니다.
+     *
+     * @param listener 제거할 리스너입니다.
+     */
+    public void removeListener(SnapshotListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * {@link CompletableFuture}가 완료될 때까지 기다린 후 결과를 반환합니다.
+     *
+     * @param future 기다릴 {@link CompletableFuture}입니다.
+     * @return 완료된 결과입니다.
+     * @throws RuntimeException IO예외로 완료된 경우 IO예외를 감싸서, 그 외의 실행 예외는 그대로 발생합니다.
+     */
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException runtimeException) throw runtimeException;
+            if(cause instanceof Error error) throw error;
+            throw new RuntimeException(cause);
+        }
+    }
+
+    private record Key(DataSource dataSource, RefreshPolicy mapPolicy, RefreshPolicy clearPolicy, RefreshPolicy userPolicy) {
+    }
 }
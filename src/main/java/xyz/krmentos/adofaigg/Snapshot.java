@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import xyz.krmentos.adofaigg.data.ClearData;
+import xyz.krmentos.adofaigg.data.ClearStore;
+import xyz.krmentos.adofaigg.data.MapData;
+import xyz.krmentos.adofaigg.data.Statistics;
+import xyz.krmentos.adofaigg.data.UserData;
+import xyz.krmentos.adofaigg.exception.DataNotLoaded;
+import xyz.krmentos.adofaigg.query.ClearField;
+import xyz.krmentos.adofaigg.query.ClearGroupBy;
+import xyz.krmentos.adofaigg.query.ClearIndex;
+import xyz.krmentos.adofaigg.query.IdIndex;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * 이 클래스는 {@link LoadManager}가 불러온 데이터의 한 시점을 나타냅니다.
+ *
+ * <p>{@link Snapshot}은 변경되지 않으며, 데이터를 새로 불러올 때마다 버전이 증가한 새로운 {@link Snapshot}이 만들어집니다.
+ * {@link #getTime()}은 {@link Snapshot}이 만들어진 시각(밀리초)입니다.
+ * 바뀌지 않은 데이터는 이전 {@link Snapshot}과 공유하며, 새로 받아온 데이터 중 이전과 같은 {@link MapData}, {@link ClearData}, {@link UserData}는
+ * 이전 {@link Snapshot}의 개체를 그대로 사용합니다. 새로 받아온 데이터가 이전과 모두 같으면 배열과 색인, 통계도 이전 {@link Snapshot}의 것을 그대로 사용하므로,
+ * 버전만 증가하고 메모리는 거의 늘어나지 않습니다.
+ *
+ * <p>데이터가 바뀐 {@link Snapshot}은 행 수만큼의 배열과 색인을 따로 가집니다. 클리어 데이터가 뒤에 추가되기만 한 경우가 아니라면
+ * 색인과 {@link Statistics}도 새로 계산됩니다. {@link xyz.krmentos.adofaigg.setting.StorageOption#OFF_HEAP}이나
+ * {@link xyz.krmentos.adofaigg.setting.StorageOption#MAPPED_FILE}로 저장된 클리어 데이터는 이전 {@link Snapshot}과 공유되지 않으므로,
+ * 보관된 {@link Snapshot}마다 클리어 데이터 전체를 담은 버퍼를 하나씩 유지합니다.
+ *
+ * <p>{@link ClearGroupBy}와 같이 데이터에서 계산된 결과는 {@link Snapshot}에 저장되어, 같은 버전에서는 다시 계산하지 않습니다.
+ * 맵별, 유저별 {@link Statistics}는 맵 데이터나 클리어 데이터가 바뀌어 {@link Snapshot}이 만들어질 때 함께 계산됩니다.
+ *
+ * @author Jongyeol
+ * @see LoadManager
+ */
+@Getter
+public class Snapshot {
+    static final Snapshot EMPTY = new Snapshot(0, 0, null, null, null, null, null, null);
+    private final long version;
+    private final long time;
+    private final MapData[] maps;
+    @Getter(AccessLevel.NONE)
+    private final IdIndex mapIdIndex;
+    private final ClearIndex clearIndex;
+    private final UserData[] users;
+    @Getter(AccessLevel.NONE)
+    private final IdIndex userIdIndex;
+    private final Statistics statistics;
+    @Getter(AccessLevel.NONE)
+    private final Map<String, ClearGroupBy> groupCache = new ConcurrentHashMap<>();
+
+    private Snapshot(long version, long time, MapData[] maps, IdIndex mapIdIndex, ClearIndex clearIndex,
+                     UserData[] users, IdIndex userIdIndex, Statistics statistics) {
+        this.version = version;
+        this.time = time;
+        this.maps = maps;
+        this.mapIdIndex = mapIdIndex;
+        this.clearIndex = clearIndex;
+        this.users = users;
+        this.userIdIndex = userIdIndex;
+        this.statistics = statistics;
+    }
+
+    Snapshot withMaps(MapData[] maps) {
+        if(this.maps != null) {
+            reuse(maps, this.maps, this.mapIdIndex, MapData::getId);
+            if(isSame(maps, this.maps)) return new Snapshot(version + 1, System.currentTimeMillis(), this.maps, this.mapIdIndex, clearIndex, users, userIdIndex, statistics);
+        }
+        IdIndex mapIdIndex = IdIndex.of(maps, MapData::getId);
+        Statistics statistics = clearIndex == null ? null : Statistics.compute(maps, clearIndex.getClears());
+        return new Snapshot(version + 1, System.currentTimeMillis(), maps, mapIdIndex, clearIndex, users, userIdIndex, statistics);
+    }
+
+    /**
+     * 클리어 데이터를 바꾼 새로운 {@link Snapshot}을 만듭니다.
+     *
+     * <p>새 클리어 데이터가 기존 데이터 뒤에 추가되기만 한 경우 {@link ClearIndex#append(ClearData[])}와
+     * {@link Statistics#append(ClearData[], int)}로 추가된 데이터만 반영하며, 그 외의 경우 색인과 통계를 새로 계산합니다.
+     * 이전 데이터와 모두 같고 저장 방식도 같은 경우 새 배열은 버리고 이전 배열과 색인, 통계를 그대로 사용합니다.
+     */
+    Snapshot withClears(ClearData[] clears) {
+        long time = System.currentTimeMillis();
+        if(clearIndex == null) {
+            return new Snapshot(version + 1, time, maps, mapIdIndex, new ClearIndex(clears), users, userIdIndex, Statistics.compute(maps, clears));
+        }
+        ClearData[] previous = clearIndex.getClears();
+        int shared = reusePrefix(previous, clears);
+        if(shared == previous.length && shared == clears.length && isSameStorage(previous, clears)) {
+            return new Snapshot(version + 1, time, maps, mapIdIndex, clearIndex, users, userIdIndex, statistics);
+        }
+        if(shared == previous.length && statistics != null) {
+            return new Snapshot(version + 1, time, maps, mapIdIndex, clearIndex.append(clears), users, userIdIndex,
+                statistics.append(clears, previous.length));
+        }
+        ClearIndex clearIndex = new ClearIndex(clears);
+        for(int i = shared; i < clears.length; i++) {
+            ClearData old = this.clearIndex.getById(clears[i].getId());
+            if(isReusable(old, clears[i])) clears[i] = old;
+        }
+        return new Snapshot(version + 1, time, maps, mapIdIndex, clearIndex, users, userIdIndex, Statistics.compute(maps, clears));
+    }
+
+    /**
+     * 새 클리어 데이터의 앞부분 중 같은 위치의 이전 데이터와 같은 데이터를 이전 개체로 바꿉니다.
+     *
+     * @return 앞에서부터 이전 데이터와 같은 데이터의 수입니다.
+     */
+    private static int reusePrefix(ClearData[] previous, ClearData[] clears) {
+        int length = Math.min(previous.length, clears.length);
+        for(int i = 0; i < length; i++) {
+            if(previous[i] == clears[i]) continue;
+            if(!previous[i].equals(clears[i])) return i;
+            if(isReusable(previous[i], clears[i])) clears[i] = previous[i];
+        }
+        return length;
+    }
+
+    /**
+     * 새 데이터 중 같은 ID의 이전 데이터와 같은 데이터를 이전 개체로 바꿉니다. 위치는 바뀌지 않으므로 새 색인은 그대로 사용할 수 있습니다.
+     */
+    private static <T> void reuse(T[] rows, T[] previous, IdIndex previousIndex, ToIntFunction<T> id) {
+        for(int i = 0; i < rows.length; i++) {
+            int position = previousIndex.indexOf(id.applyAsInt(rows[i]));
+            if(position != -1 && isReusable(previous[position], rows[i])) rows[i] = previous[position];
+        }
+    }
+
+    /**
+     * 새 데이터의 모든 개체가 이전 데이터의 같은 위치의 개체와 같은지 확인합니다.
+     */
+    private static boolean isSame(Object[] rows, Object[] previous) {
+        if(rows.length != previous.length) return false;
+        for(int i = 0; i < rows.length; i++) if(rows[i] != previous[i]) return false;
+        return true;
+    }
+
+    /**
+     * 두 클리어 데이터가 같은 방식으로 저장되어 있는지 확인합니다.
+     */
+    private static boolean isSameStorage(ClearData[] previous, ClearData[] clears) {
+        return clears.length == 0 || ClearStore.getStorageOption(previous[0]) == ClearStore.getStorageOption(clears[0]);
+    }
+
+    /**
+     * 이전 개체를 대신 사용할 수 있는지 확인합니다. {@link ClearStore}에 저장된 데이터는 이전 저장소를 유지하지 않도록 다시 사용하지 않습니다.
+     */
+    private static boolean isReusable(Object previous, Object row) {
+        return previous != null && previous != row && previous.getClass() == row.getClass()
+            && !(row instanceof ClearData clear && ClearStore.isStored(clear)) && previous.equals(row);
+    }
+
+    Snapshot withUsers(UserData[] users) {
+        if(this.users != null) {
+            reuse(users, this.users, this.userIdIndex, UserData::getId);
+            if(isSame(users, this.users)) return new Snapshot(version + 1, System.currentTimeMillis(), maps, mapIdIndex, clearIndex, this.users, this.userIdIndex, statistics);
+        }
+        IdIndex userIdIndex = IdIndex.of(users, UserData::getId);
+        return new Snapshot(version + 1, System.currentTimeMillis(), maps, mapIdIndex, clearIndex, users, userIdIndex, statistics);
+    }
+
+    /**
+     * 이 {@link Snapshot}에서 지정된 ID의 {@link MapData}를 반환합니다.
+     *
+     * @param id 검색할 맵의 식별자입니다.
+     * @return 지정된 ID의 맵 데이터입니다. 존재하지 않을 경우 null을 반환합니다.
+     * @throws DataNotLoaded 맵 데이터를 불러오지 않았을 경우 예외가 발생합니다.
+     */
+    public MapData getMap(int id) {
+        if(maps == null) throw new DataNotLoaded();
+        int index = mapIdIndex.indexOf(id);
+        return index == -1 ? null : maps[index];
+    }
+
+    /**
+     * 이 {@link Snapshot}에서 지정된 ID의 {@link ClearData}를 반환합니다.
+     *
+     * @param id 검색할 클리어 데이터의 식별자입니다.
+     * @return 지정된 ID의 클리어 데이터입니다. 존재하지 않을 경우 null을 반환합니다.
+     * @throws DataNotLoaded 클리어 데이터를 불러오지 않았을 경우 예외가 발생합니다.
+     */
+    public ClearData getClear(int id) {
+        if(clearIndex == null) throw new DataNotLoaded();
+        return clearIndex.getById(id);
+    }
+
+    /**
+     * 이 {@link Snapshot}에서 지정된 ID의 {@link UserData}를 반환합니다.
+     *
+     * @param id 검색할 유저의 식별자입니다.
+     * @return 지정된 ID의 유저 데이터입니다. 존재하지 않을 경우 null을 반환합니다.
+     * @throws DataNotLoaded 유저 데이터를 불러오지 않았을 경우 예외가 발생합니다.
+     */
+    public UserData getUser(int id) {
+        if(users == null) throw new DataNotLoaded();
+        int index = userIdIndex.indexOf(id);
+        return index == -1 ? null : users[index];
+    }
+
+    /**
+     * 이 {@link Snapshot}의 {@link ClearData} 배열을 반환합니다.
+     *
+     * @return 클리어 데이터 배열입니다. 클리어 데이터를 불러오지 않았을 경우 null을 반환합니다.
+     */
+    public ClearData[] getClears() {
+        return clearIndex == null ? null : clearIndex.getClears();
+    }
+
+    /**
+     * 이 {@link Snapshot}의 클리어 데이터를 지정된 필드의 구간으로 묶은 {@link ClearGroupBy}를 반환합니다.
+     *
+     * <p>같은 조건의 {@link ClearGroupBy}는 한 번만 만들어지며, 그 집계 결과도 함께 저장됩니다.
+     *
+     * @param key 그룹의 기준이 되는 필드입니다.
+     * @param bucketWidth 구간의 간격입니다.
+     * @return 클리어 데이터를 묶은 {@link ClearGroupBy}입니다.
+     * @throws DataNotLoaded 클리어 데이터를 불러오지 않았을 경우 예외가 발생합니다.
+     */
+    public ClearGroupBy groupClearsBy(ClearField key, double bucketWidth) {
+        if(clearIndex == null) throw new DataNotLoaded();
+        return groupCache.computeIfAbsent(key + ":" + bucketWidth, k -> new ClearGroupBy(clearIndex, key, bucketWidth, null));
+    }
+}
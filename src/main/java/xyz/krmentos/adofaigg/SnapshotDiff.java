@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg;
+
+import lombok.Getter;
+import xyz.krmentos.adofaigg.data.ClearData;
+import xyz.krmentos.adofaigg.data.MapData;
+import xyz.krmentos.adofaigg.data.UserData;
+import xyz.krmentos.adofaigg.setting.DataType;
+
+import java.util.Arrays;
+import java.util.function.ToIntFunction;
+
+/**
+ * 이 클래스는 데이터를 새로 받아오기 전과 후의 {@link Snapshot}에서 한 종류의 데이터가 바뀐 내용을 나타냅니다.
+ *
+ * <p>각 데이터는 ID로 비교하며, 추가된 ID, 제거된 ID, 내용이 바뀐 ID를 오름차순으로 제공합니다.
+ * 내용은 각 데이터의 {@link Object#hashCode()}로 비교하므로 모든 필드를 비교하지 않습니다.
+ * 해시가 충돌하는 드문 경우에는 바뀐 데이터가 {@link #getChanged()}에 포함되지 않을 수 있습니다.
+ *
+ * @author Jongyeol
+ * @see SnapshotListener
+ */
+@Getter
+public class SnapshotDiff {
+    private static final int[] EMPTY = new int[0];
+    private final DataType type;
+    private final Snapshot previous;
+    private final Snapshot current;
+    private final int[] added;
+    private final int[] removed;
+    private final int[] changed;
+
+    private SnapshotDiff(DataType type, Snapshot previous, Snapshot current, int[] added, int[] removed, int[] changed) {
+        this.type = type;
+        this.previous = previous;
+        this.current = current;
+        this.added = added;
+        this.removed = removed;
+        this.changed = changed;
+    }
+
+    /**
+     * 바뀐 데이터가 없는지 확인합니다.
+     *
+     * @return 추가, 제거, 변경된 데이터가 없을 경우 {@code true}를 반환합니다.
+     */
+    public boolean isEmpty() {
+        return added.length == 0 && removed.length == 0 && changed.length == 0;
+    }
+
+    /**
+     * 두 {@link Snapshot}의 해시 목록을 비교하여 바뀐 내용을 계산합니다.
+     *
+     * @param before {@link #hashRows(Object[], DataType)}로 계산한 이전 데이터의 해시 목록입니다.
+     * @param after {@link #hashRows(Object[], DataType)}로 계산한 새 데이터의 해시 목록입니다.
+     */
+    static SnapshotDiff compute(DataType type, Snapshot previous, Snapshot current, long[] before, long[] after) {
+        int[] added = new int[after.length];
+        int[] removed = new int[before.length];
+        int[] changed = new int[Math.min(before.length, after.length)];
+        int addedCount = 0, removedCount = 0, changedCount = 0;
+        int i = 0, j = 0;
+        while(i < before.length || j < after.length) {
+            int beforeId = i < before.length ? (int) (before[i] >> 32) : Integer.MAX_VALUE;
+            int afterId = j < after.length ? (int) (after[j] >> 32) : Integer.MAX_VALUE;
+            if(j >= after.length || (i < before.length && beforeId < afterId)) {
+                removed[removedCount++] = beforeId;
+                i++;
+            } else if(i >= before.length || afterId < beforeId) {
+                added[addedCount++] = afterId;
+                j++;
+            } else {
+                if((int) before[i] != (int) after[j]) changed[changedCount++] = afterId;
+                i++;
+                j++;
+            }
+        }
+        return new SnapshotDiff(type, previous, current, trim(added, addedCount), trim(removed, removedCount), trim(changed, changedCount));
+    }
+
+    /**
+     * {@link Snapshot}에서 지정된 데이터의 배열을 반환합니다.
+     *
+     * @return 데이터 배열입니다. 불러오지 않았을 경우 null을 반환합니다.
+     */
+    static Object[] getRows(Snapshot snapshot, DataType type) {
+        return switch(type) {
+            case MAP -> snapshot.getMaps();
+            case CLEAR -> snapshot.getClears();
+            case USER -> snapshot.getUsers();
+        };
+    }
+
+    /**
+     * 각 데이터의 ID와 해시를 하나의 {@code long}으로 합쳐 ID 순서로 정렬한 목록을 계산합니다.
+     *
+     * <p>같은 ID의 데이터가 여러 개일 경우 {@link xyz.krmentos.adofaigg.query.IdIndex}와 같이 마지막 데이터만 사용하므로, 목록에서 ID는 중복되지 않습니다.
+     *
+     * @param rows {@link #getRows(Snapshot, DataType)}로 얻은 데이터 배열입니다. null일 경우 빈 목록을 반환합니다.
+     */
+    static long[] hashRows(Object[] rows, DataType type) {
+        if(rows == null) return new long[0];
+        return switch(type) {
+            case MAP -> hashRows((MapData[]) rows, MapData::getId);
+            case CLEAR -> hashRows((ClearData[]) rows, ClearData::getId);
+            case USER -> hashRows((UserData[]) rows, UserData::getId);
+        };
+    }
+
+    private static <T> long[] hashRows(T[] rows, ToIntFunction<T> id) {
+        long[] positions = new long[rows.length];
+        for(int i = 0; i < rows.length; i++) positions[i] = (long) id.applyAsInt(rows[i]) << 32 | i;
+        Arrays.sort(positions);
+        long[] hashes = new long[rows.length];
+        int size = 0;
+        for(int i = 0; i < positions.length; i++) {
+            if(i + 1 < positions.length && positions[i + 1] >> 32 == positions[i] >> 32) continue;
+            T row = rows[(int) positions[i]];
+            hashes[size++] = positions[i] & 0xFFFFFFFF00000000L | (row.hashCode() & 0xFFFFFFFFL);
+        }
+        return size == hashes.length ? hashes : Arrays.copyOf(hashes, size);
+    }
+
+    private static int[] trim(int[] ids, int count) {
+        if(count == 0) return EMPTY;
+        return count == ids.length ? ids : Arrays.copyOf(ids, count);
+    }
+}
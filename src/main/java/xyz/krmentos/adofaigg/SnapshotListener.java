@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg;
+
+/**
+ * 이 인터페이스는 데이터를 새로 받아와 {@link Snapshot}이 바뀔 때 호출됩니다.
+ *
+ * <p>리스너는 데이터를 받아오는 스레드가 아닌 다른 스레드에서 비동기로 호출되며,
+ * 같은 {@link LoadManager}에서 발생한 변경은 발생한 순서대로 하나씩 전달됩니다.
+ * 리스너에서 발생한 {@link RuntimeException}은 {@link xyz.krmentos.adofaigg.metrics.Metrics#recordListenerFailure(xyz.krmentos.adofaigg.setting.DataType, RuntimeException)}로 전달되며
+ * 다른 리스너에 영향을 주지 않습니다. {@link Error}는 호출한 스레드의 {@link Thread.UncaughtExceptionHandler}로 전달되며, 이후의 변경은 계속 전달됩니다.
+ *
+ * <p>예시 사용법:
+ * <p>adofaiGG.addListener(diff -&gt; { if(diff.getType() == DataType.CLEAR) notifyNewClears(diff.getAdded()); });
+ *
+ * @author Jongyeol
+ * @see SnapshotDiff
+ * @see AdofaiGG#addListener(SnapshotListener)
+ */
+@FunctionalInterface
+public interface SnapshotListener {
+
+    /**
+     * 데이터가 새로 받아와졌을 때 호출됩니다. 바뀐 내용이 없어도 호출됩니다.
+     *
+     * @param diff 바뀐 데이터의 종류와 내용입니다.
+     */
+    void onChange(SnapshotDiff diff);
+}
@@ -28,12 +28,14 @@
 
 package xyz.krmentos.adofaigg.data;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import lombok.*;
+import lombok.Getter;
 import xyz.krmentos.adofaigg.query.ClearQuery;
 
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Objects;
+
 /**
  * 이 클래스는 클리어 데이터를 나타냅니다.
  *
@@ -41,100 +43,404 @@ import xyz.krmentos.adofaigg.query.ClearQuery;
  *
  * <p>ClearData 객체를 생성할 때는 {@link #loadData(JsonObject)} 메서드를 사용하여 {@link JsonObject}를 {@link ClearData} 배열로 변환합니다.
  *
+ * <p>값은 저장 방식에 따라 개체의 필드나 {@link ClearStore}의 버퍼에서 읽으며, 두 방식의 개체는 값이 같으면
+ * {@link #equals(Object)}와 {@link #hashCode()}의 결과도 같습니다.
+ *
  * @author Jongyeol
  * @see ClearQuery
+ * @see ClearStore
  */
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
-@Data
-@Setter(AccessLevel.NONE)
-public class ClearData {
+public abstract class ClearData {
     /**
      * Google Sheet에 GID 코드로 데이터를 불러오는데 사용합니다.
      */
     public static int gid = 110445676;
-    private int id;
-    private String timeStamp;
-    private String name;
-    private int userCode;
-    private int mapId;
-    private String videoLink;
-    private double ra;
-    private double accuracy;
-    private int speed;
-    private double xAccuracy;
-    private double playPoint;
-    private int localRank;
-    private int songRank;
-    private int totalRank;
-    private int recordCode;
-    private int isOverLaped;
-    private int isNew;
-    private double weighted;
-    private String other;
-    private float feeling;
+    /**
+     * Google Sheet의 날짜 값을 해석할 때 사용하는 시간대입니다.
+     */
+    public static ZoneId zoneId = ZoneId.of("Asia/Seoul");
+
+    ClearData() {
+    }
+
+    /**
+     * 클리어 데이터의 번호를 반환합니다.
+     *
+     * @return 클리어 데이터의 번호입니다.
+     */
+    public abstract int getId();
+
+    /**
+     * Google Sheet에 기록된 클리어 시각의 원래 값을 반환합니다.
+     *
+     * @return Google Sheet에 기록된 클리어 시각의 원래 값입니다.
+     */
+    public abstract String getTimeStamp();
+
+    /**
+     * 클리어 시각을 epoch 밀리초로 반환합니다.
+     *
+     * @return 클리어 시각의 epoch 밀리초입니다. 형식이 올바르지 않을 경우 {@code -1}을 반환합니다.
+     */
+    public abstract long getTimeStampMillis();
+
+    /**
+     * 유저 이름을 반환합니다.
+     *
+     * @return 유저 이름입니다.
+     */
+    public abstract String getName();
+
+    /**
+     * 유저 번호를 반환합니다.
+     *
+     * @return 유저 번호입니다.
+     */
+    public abstract int getUserCode();
+
+    /**
+     * 맵 번호를 반환합니다.
+     *
+     * @return 맵 번호입니다.
+     */
+    public abstract int getMapId();
+
+    /**
+     * 영상 링크를 반환합니다.
+     *
+     * @return 영상 링크입니다.
+     */
+    public abstract String getVideoLink();
+
+    /**
+     * RA를 반환합니다.
+     *
+     * @return RA입니다.
+     */
+    public abstract double getRa();
+
+    /**
+     * 정확도(%)를 반환합니다.
+     *
+     * @return 정확도(%)입니다.
+     */
+    public abstract double getAccuracy();
+
+    /**
+     * 배속(%)을 반환합니다.
+     *
+     * @return 배속(%)입니다.
+     */
+    public abstract int getSpeed();
+
+    /**
+     * X-정확도(%)를 반환합니다.
+     *
+     * @return X-정확도(%)입니다.
+     */
+    public abstract double getXAccuracy();
+
+    /**
+     * 플레이 포인트를 반환합니다.
+     *
+     * @return 플레이 포인트입니다.
+     */
+    public abstract double getPlayPoint();
+
+    /**
+     * 맵 안에서의 순위를 반환합니다.
+     *
+     * @return 맵 안에서의 순위입니다.
+     */
+    public abstract int getLocalRank();
+
+    /**
+     * 곡 안에서의 순위를 반환합니다.
+     *
+     * @return 곡 안에서의 순위입니다.
+     */
+    public abstract int getSongRank();
+
+    /**
+     * 전체 순위를 반환합니다.
+     *
+     * @return 전체 순위입니다.
+     */
+    public abstract int getTotalRank();
+
+    /**
+     * 기록 코드를 반환합니다.
+     *
+     * @return 기록 코드입니다.
+     */
+    public abstract int getRecordCode();
+
+    /**
+     * 겹친 기록인지 나타내는 값을 반환합니다.
+     *
+     * @return 겹친 기록인지 나타내는 값입니다.
+     */
+    public abstract int getIsOverLaped();
+
+    /**
+     * 새 기록인지 나타내는 값을 반환합니다.
+     *
+     * @return 새 기록인지 나타내는 값입니다.
+     */
+    public abstract int getIsNew();
+
+    /**
+     * 가중치가 적용된 플레이 포인트를 반환합니다.
+     *
+     * @return 가중치가 적용된 플레이 포인트입니다.
+     */
+    public abstract double getWeighted();
+
+    /**
+     * 기타 정보를 반환합니다.
+     *
+     * @return 기타 정보입니다.
+     */
+    public abstract String getOther();
+
+    /**
+     * 체감 난이도를 반환합니다.
+     *
+     * @return 체감 난이도입니다.
+     */
+    public abstract float getFeeling();
 
     /**
      * 주어진 JsonObject에서 {@link ClearData} 배열을 생성합니다.
      *
      * @param object Json 데이터에서 {@link JsonObject}로 추출된 데이터입니다.
-     * @return {@link ClearData} 배열로 변환된 데이터입니다.
+     * @return {@link ClearData} 배열로 변환된 데이터입니다. 형식이 올바르지 않은 행은 제외되므로 배열에 null이 포함되지 않습니다.
      */
     public static ClearData[] loadData(JsonObject object) {
-        JsonArray rows = object.getAsJsonObject("table").getAsJsonArray("rows");
-        ClearData[] clearDataList = new ClearData[rows.size()];
-        for(int i = 0; i < rows.size(); i++) {
-            try {
-                JsonArray data = rows.get(i).getAsJsonObject().getAsJsonArray("c");
-                ClearData clearData = new ClearData();
-                clearData.id = getData(data, 0).getAsInt();
-                clearData.timeStamp = getData(data, 1).getAsString();
-                clearData.name = getData(data, 2).getAsString();
-                clearData.userCode = getData(data, 3).getAsInt();
-                clearData.mapId = getData(data, 4).getAsInt();
-                clearData.videoLink = getData(data, 24).getAsString();
-                clearData.ra = getDouble(data, 11);
-                clearData.accuracy = getDouble(data, 12) * 100;
-                clearData.speed = (int) (getDouble(data, 13) * 100);
-                clearData.xAccuracy = getDouble(data, 14) * 100;
-                clearData.playPoint = getDouble(data, 15);
-                clearData.localRank = getInt(data, 16);
-                clearData.songRank = getInt(data, 17);
-                clearData.totalRank = getInt(data, 18);
-                clearData.recordCode = getInt(data, 19);
-                clearData.isOverLaped = getInt(data, 20);
-                clearData.isNew = getInt(data, 21);
-                clearData.weighted = getDouble(data, 22);
-                clearData.other = getString(data, 23);
-                clearData.feeling = getFloat(data, 25);
-                clearDataList[i] = clearData;
-            } catch (Exception ignored) {
-            }
+        return loadData(object, new LoadContext());
+    }
+
+    /**
+     * 주어진 JsonObject에서 {@link ClearData} 배열을 생성합니다.
+     *
+     * <p>반복되는 문자열은 {@link LoadContext}를 통해 하나의 개체로 합쳐집니다.
+     *
+     * @param object Json 데이터에서 {@link JsonObject}로 추출된 데이터입니다.
+     * @param context 데이터를 불러오는 동안 사용할 {@link LoadContext}입니다.
+     * @return {@link ClearData} 배열로 변환된 데이터입니다. 형식이 올바르지 않은 행은 제외되므로 배열에 null이 포함되지 않습니다.
+     */
+    public static ClearData[] loadData(JsonObject object, LoadContext context) {
+        return loadData(GvizTable.of(object), context);
+    }
+
+    /**
+     * 주어진 {@link GvizTable}에서 {@link ClearData} 배열을 생성합니다.
+     *
+     * <p>반복되는 문자열은 {@link LoadContext}를 통해 하나의 개체로 합쳐집니다.
+     *
+     * @param table gviz 응답에서 읽은 {@link GvizTable}입니다.
+     * @param context 데이터를 불러오는 동안 사용할 {@link LoadContext}입니다.
+     * @return {@link ClearData} 배열로 변환된 데이터입니다. 형식이 올바르지 않은 행은 제외되므로 배열에 null이 포함되지 않습니다.
+     */
+    public static ClearData[] loadData(GvizTable table, LoadContext context) {
+        return context.decodeRows(table.getRowCount(), i -> decodeRow(table, i, context), ClearData[]::new);
+    }
+
+    private static ClearData decodeRow(GvizTable table, int i, LoadContext context) {
+        Row row = new Row();
+        if(!decodeRow(table, i, context, row)) return null;
+        row.name = context.intern(row.name);
+        return row;
+    }
+
+    /**
+     * 한 행을 변환하여 주어진 {@link Row}에 저장합니다. 형식이 올바르지 않은 행은 {@link LoadContext#reject(int, String)}로 보고됩니다.
+     *
+     * @return 행이 변환된 경우 {@code true}, 제외된 경우 {@code false}를 반환합니다.
+     */
+    static boolean decodeRow(GvizTable table, int i, LoadContext context, Row row) {
+        if(!table.hasCells(i)) {
+            context.reject(i, "row has no cells");
+            return false;
         }
-        return clearDataList;
+        String timeStamp = table.getString(i, 1);
+        String name = table.getString(i, 2);
+        String videoLink = table.getString(i, 24);
+        if(!table.isNumber(i, 0) || !table.isNumber(i, 3) || !table.isNumber(i, 4) || timeStamp == null || name == null || videoLink == null) {
+            context.reject(i, "missing required cell");
+            return false;
+        }
+        row.id = table.getInt(i, 0);
+        row.timeStamp = timeStamp;
+        row.timeStampMillis = parseTime(timeStamp);
+        row.name = name;
+        row.userCode = table.getInt(i, 3);
+        row.mapId = table.getInt(i, 4);
+        row.videoLink = videoLink;
+        row.ra = table.getDouble(i, 11);
+        row.accuracy = table.getDouble(i, 12) * 100;
+        row.speed = (int) (table.getDouble(i, 13) * 100);
+        row.xAccuracy = table.getDouble(i, 14) * 100;
+        row.playPoint = table.getDouble(i, 15);
+        row.localRank = table.getInt(i, 16);
+        row.songRank = table.getInt(i, 17);
+        row.totalRank = table.getInt(i, 18);
+        row.recordCode = table.getInt(i, 19);
+        row.isOverLaped = table.getInt(i, 20);
+        row.isNew = table.getInt(i, 21);
+        row.weighted = table.getDouble(i, 22);
+        row.other = table.getString(i, 23);
+        row.feeling = table.getFloat(i, 25);
+        return true;
     }
 
-    private static JsonElement getData(JsonArray data, int id) {
-        JsonElement element = data.get(id);
-        return element.isJsonNull() ? null : element.getAsJsonObject().get("v");
+    /**
+     * Google Sheet의 날짜 값을 epoch 밀리초로 변환합니다.
+     *
+     * <p>날짜 값은 {@code Date(년,월,일,시,분,초)} 형식이며 월은 0부터 시작합니다.
+     *
+     * @param value 변환할 날짜 값입니다.
+     * @return {@link #zoneId} 시간대를 기준으로 한 epoch 밀리초입니다. 형식이 올바르지 않을 경우 -1을 반환합니다.
+     */
+    static long parseTime(String value) {
+        if(value == null || !value.startsWith("Date(") || !value.endsWith(")")) return -1;
+        int[] fields = new int[7];
+        int count = 0;
+        int number = -1;
+        for(int i = 5; i < value.length() - 1; i++) {
+            char c = value.charAt(i);
+            if(c >= '0' && c <= '9') {
+                number = (number == -1 ? 0 : number * 10) + (c - '0');
+                if(number > 99999) return -1;
+            } else if(c == ',' && number != -1 && count < fields.length - 1) {
+                fields[count++] = number;
+                number = -1;
+            } else return -1;
+        }
+        if(number == -1 || count < 2) return -1;
+        fields[count] = number;
+        if(fields[1] > 11 || fields[2] < 1 || fields[2] > 31 || fields[3] > 23 || fields[4] > 59 || fields[5] > 59 || fields[6] > 999) return -1;
+        YearMonth month = YearMonth.of(fields[0], fields[1] + 1);
+        if(!month.isValidDay(fields[2])) return -1;
+        return month.atDay(fields[2]).atTime(fields[3], fields[4], fields[5], fields[6] * 1000000)
+            .atZone(zoneId).toInstant().toEpochMilli();
     }
 
-    private static String getString(JsonArray data, int id) {
-        JsonElement element = getData(data, id);
-        return element == null || element.isJsonNull() ? null : element.getAsString();
+    @Override
+    public boolean equals(Object o) {
+        if(this == o) return true;
+        if(!(o instanceof ClearData other)) return false;
+        return getId() == other.getId()
+            && getTimeStampMillis() == other.getTimeStampMillis()
+            && getUserCode() == other.getUserCode()
+            && getMapId() == other.getMapId()
+            && Double.compare(getRa(), other.getRa()) == 0
+            && Double.compare(getAccuracy(), other.getAccuracy()) == 0
+            && getSpeed() == other.getSpeed()
+            && Double.compare(getXAccuracy(), other.getXAccuracy()) == 0
+            && Double.compare(getPlayPoint(), other.getPlayPoint()) == 0
+            && getLocalRank() == other.getLocalRank()
+            && getSongRank() == other.getSongRank()
+            && getTotalRank() == other.getTotalRank()
+            && getRecordCode() == other.getRecordCode()
+            && getIsOverLaped() == other.getIsOverLaped()
+            && getIsNew() == other.getIsNew()
+            && Double.compare(getWeighted(), other.getWeighted()) == 0
+            && Float.compare(getFeeling(), other.getFeeling()) == 0
+            && sameStrings(other);
     }
 
-    private static double getDouble(JsonArray data, int id) {
-        JsonElement element = getData(data, id);
-        return element == null ? -1 : element.getAsDouble();
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = result * 59 + getId();
+        result = result * 59 + timeStampHash();
+        result = result * 59 + Long.hashCode(getTimeStampMillis());
+        result = result * 59 + nameHash();
+        result = result * 59 + getUserCode();
+        result = result * 59 + getMapId();
+        result = result * 59 + videoLinkHash();
+        result = result * 59 + Double.hashCode(getRa());
+        result = result * 59 + Double.hashCode(getAccuracy());
+        result = result * 59 + getSpeed();
+        result = result * 59 + Double.hashCode(getXAccuracy());
+        result = result * 59 + Double.hashCode(getPlayPoint());
+        result = result * 59 + getLocalRank();
+        result = result * 59 + getSongRank();
+        result = result * 59 + getTotalRank();
+        result = result * 59 + getRecordCode();
+        result = result * 59 + getIsOverLaped();
+        result = result * 59 + getIsNew();
+        result = result * 59 + Double.hashCode(getWeighted());
+        result = result * 59 + otherHash();
+        result = result * 59 + Float.hashCode(getFeeling());
+        return result;
     }
 
-    private static int getInt(JsonArray data, int id) {
-        JsonElement element = getData(data, id);
-        return element == null ? -1 : element.getAsInt();
+    @Override
+    public String toString() {
+        return "ClearData(id=" + getId() + ", timeStamp=" + getTimeStamp() + ", timeStampMillis=" + getTimeStampMillis()
+            + ", name=" + getName() + ", userCode=" + getUserCode() + ", mapId=" + getMapId() + ", videoLink=" + getVideoLink()
+            + ", ra=" + getRa() + ", accuracy=" + getAccuracy() + ", speed=" + getSpeed() + ", xAccuracy=" + getXAccuracy()
+            + ", playPoint=" + getPlayPoint() + ", localRank=" + getLocalRank() + ", songRank=" + getSongRank()
+            + ", totalRank=" + getTotalRank() + ", recordCode=" + getRecordCode() + ", isOverLaped=" + getIsOverLaped()
+            + ", isNew=" + getIsNew() + ", weighted=" + getWeighted() + ", other=" + getOther() + ", feeling=" + getFeeling() + ")";
     }
 
-    private static float getFloat(JsonArray data, int id) {
-        JsonElement element = getData(data, id);
-        return element == null ? -1 : element.getAsFloat();
+    /**
+     * 문자열 필드가 모두 같은지 확인합니다. {@link ClearStore}는 문자열을 만들지 않고 비교하도록 재정의합니다.
+     */
+    boolean sameStrings(ClearData other) {
+        return Objects.equals(getTimeStamp(), other.getTimeStamp())
+            && Objects.equals(getName(), other.getName())
+            && Objects.equals(getVideoLink(), other.getVideoLink())
+            && Objects.equals(getOther(), other.getOther());
+    }
+
+    /**
+     * 문자열 필드의 {@link String#hashCode()}를 반환합니다. 다른 문자열 필드도 같은 방식이며, {@link ClearStore}는 저장된 해시를 읽도록 재정의합니다.
+     */
+    int timeStampHash() {
+        return Objects.hashCode(getTimeStamp());
+    }
+
+    int nameHash() {
+        return Objects.hashCode(getName());
+    }
+
+    int videoLinkHash() {
+        return Objects.hashCode(getVideoLink());
+    }
+
+    int otherHash() {
+        return Objects.hashCode(getOther());
+    }
+
+    /**
+     * 값을 필드에 저장하는 {@link ClearData}입니다. {@link xyz.krmentos.adofaigg.setting.StorageOption#HEAP}에서 사용됩니다.
+     */
+    @Getter
+    static final class Row extends ClearData {
+        private int id;
+        private String timeStamp;
+        private long timeStampMillis;
+        private String name;
+        private int userCode;
+        private int mapId;
+        private String videoLink;
+        private double ra;
+        private double accuracy;
+        private int speed;
+        private double xAccuracy;
+        private double playPoint;
+        private int localRank;
+        private int songRank;
+        private int totalRank;
+        private int recordCode;
+        private int isOverLaped;
+        private int isNew;
+        private double weighted;
+        private String other;
+        private float feeling;
     }
 }
@@ -0,0 +1,528 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.data;
+
+import xyz.krmentos.adofaigg.setting.StorageOption;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 이 클래스는 {@link ClearData}를 Java 힙 밖의 버퍼에 저장합니다.
+ *
+ * <p>숫자 필드는 필드마다 고정 길이의 열로 저장되고, 문자열은 문자열 영역에 길이, {@link String#hashCode()}와 함께 저장되어 각 행에는 위치만 저장됩니다.
+ * 버퍼는 {@link StorageOption#OFF_HEAP}일 경우 direct 버퍼, {@link StorageOption#MAPPED_FILE}일 경우 메모리에 매핑된 임시 파일입니다.
+ * 임시 파일은 매핑한 후 바로 삭제되며, 매핑된 파일을 삭제할 수 없는 Windows에서는 저장소가 더 이상 사용되지 않거나 JVM이 종료될 때 삭제됩니다.
+ * {@link #of(GvizTable, LoadContext, StorageOption)}는 응답의 각 행을 버퍼에 바로 기록하므로, 힙에 모든 {@link ClearData}를 만든 후 옮기지 않습니다.
+ *
+ * <p>{@link #getClears()}가 반환하는 {@link ClearData}는 저장소와 행 번호만 가진 개체이며, 값은 호출할 때마다 버퍼에서 읽습니다.
+ * 행마다 힙에 남는 크기는 이 개체(압축된 참조를 사용할 경우 24바이트)와 배열의 참조 하나이며, 버퍼에는 행마다 108바이트와 문자열이 저장됩니다.
+ * 힙의 개체 수는 여전히 행의 수와 같으므로 GC가 탐색하는 개체 수는 줄지 않지만, 각 개체가 문자열이나 다른 개체를 참조하지 않으므로 탐색하는 참조와 힙의 크기는 줄어듭니다.
+ *
+ * <p>문자열 값을 읽는 메소드는 호출할 때마다 새 {@link String}을 만듭니다. {@link ClearData#hashCode()}와 같은 저장소의 값끼리 비교하는
+ * {@link ClearData#equals(Object)}는 저장된 해시와 바이트를 사용하므로 문자열을 만들지 않습니다.
+ *
+ * @author Jongyeol
+ * @see StorageOption
+ */
+public class ClearStore {
+    private static final int ID = 0;
+    private static final int TIME = 1;
+    private static final int USER_CODE = 2;
+    private static final int MAP_ID = 3;
+    private static final int RA = 4;
+    private static final int ACCURACY = 5;
+    private static final int SPEED = 6;
+    private static final int X_ACCURACY = 7;
+    private static final int PLAY_POINT = 8;
+    private static final int LOCAL_RANK = 9;
+    private static final int SONG_RANK = 10;
+    private static final int TOTAL_RANK = 11;
+    private static final int RECORD_CODE = 12;
+    private static final int IS_OVER_LAPED = 13;
+    private static final int IS_NEW = 14;
+    private static final int WEIGHTED = 15;
+    private static final int FEELING = 16;
+    private static final int TIME_STAMP = 17;
+    private static final int NAME = 18;
+    private static final int VIDEO_LINK = 19;
+    private static final int OTHER = 20;
+    private static final int[] WIDTHS = {4, 8, 4, 4, 8, 8, 4, 8, 8, 4, 4, 4, 4, 4, 4, 8, 4, 4, 4, 4, 4};
+    private static final int[] STRING_COLUMNS = {TIME_STAMP, NAME, VIDEO_LINK, OTHER};
+
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final Queue<Path> PENDING_FILES = new ConcurrentLinkedQueue<>();
+
+    private final StorageOption option;
+    private final List<Path> files = new ArrayList<>();
+    private final ByteBuffer buffer;
+    private final int[] columns = new int[WIDTHS.length];
+    private ByteBuffer strings;
+    private ClearData[] clears;
+
+    private ClearStore(int capacity, StorageOption option) {
+        this.option = option;
+        int offset = 0;
+        for(int i = 0; i < WIDTHS.length; i++) {
+            columns[i] = offset;
+            offset = Math.addExact(offset, Math.multiplyExact(WIDTHS[i], capacity));
+        }
+        buffer = allocate(offset);
+    }
+
+    /**
+     * 주어진 클리어 데이터를 지정된 방식의 버퍼에 저장합니다.
+     *
+     * @param clears 저장할 클리어 데이터 배열입니다.
+     * @param option 데이터를 저장할 방식입니다. {@link StorageOption#HEAP}은 사용할 수 없습니다.
+     * @return 데이터가 저장된 {@link ClearStore}입니다.
+     * @throws IllegalArgumentException 저장 방식이 {@link StorageOption#HEAP}일 경우 예외가 발생합니다.
+     * @throws RuntimeException 임시 파일을 만들거나 매핑하는 중 IO예외가 발생한 경우 예외가 발생합니다.
+     */
+    public static ClearStore of(ClearData[] clears, StorageOption option) {
+        if(option == StorageOption.HEAP) throw new IllegalArgumentException("HEAP storage does not use ClearStore");
+        ClearStore store = new ClearStore(clears.length, option);
+        StringPool pool = new StringPool();
+        for(int i = 0; i < clears.length; i++) store.write(i, clears[i], pool);
+        store.finish(clears.length, null, new StringPool[] {pool}, Math.max(clears.length, 1));
+        return store;
+    }
+
+    /**
+     * 주어진 {@link GvizTable}의 각 행을 변환하여 지정된 방식의 버퍼에 바로 저장합니다. 형식이 올바르지 않은 행은 제외됩니다.
+     *
+     * <p>{@link LoadContext}에 실행기가 설정되어 있을 경우 행을 나누어 동시에 변환하며, 힙에는 각 구간의 문자열 영역만 잠시 만들어집니다.
+     *
+     * @param table gviz 응답에서 읽은 {@link GvizTable}입니다.
+     * @param context 데이터를 불러오는 동안 사용할 {@link LoadContext}입니다.
+     * @param option 데이터를 저장할 방식입니다. {@link StorageOption#HEAP}은 사용할 수 없습니다.
+     * @return 데이터가 저장된 {@link ClearStore}입니다.
+     * @throws IllegalArgumentException 저장 방식이 {@link StorageOption#HEAP}일 경우 예외가 발생합니다.
+     * @throws RuntimeException 임시 파일을 만들거나 매핑하는 중 IO예외가 발생한 경우 예외가 발생합니다.
+     */
+    public static ClearStore of(GvizTable table, LoadContext context, StorageOption option) {
+        if(option == StorageOption.HEAP) throw new IllegalArgumentException("HEAP storage does not use ClearStore");
+        int rowCount = table.getRowCount();
+        ClearStore store = new ClearStore(rowCount, option);
+        boolean[] accepted = new boolean[rowCount];
+        StringPool[] pools = new StringPool[(rowCount + LoadContext.PARALLEL_CHUNK_SIZE - 1) / LoadContext.PARALLEL_CHUNK_SIZE];
+        context.forEachChunk(rowCount, (from, to) -> {
+            ClearData.Row row = new ClearData.Row();
+            StringPool pool = new StringPool();
+            for(int i = from; i < to; i++) {
+                if(!ClearData.decodeRow(table, i, context, row)) continue;
+                store.write(i, row, pool);
+                accepted[i] = true;
+            }
+            pools[from / LoadContext.PARALLEL_CHUNK_SIZE] = pool;
+        });
+        store.finish(rowCount, accepted, pools, LoadContext.PARALLEL_CHUNK_SIZE);
+        return store;
+    }
+
+    /**
+     * 버퍼를 읽는 {@link ClearData} 배열을 반환합니다.
+     *
+     * @return 버퍼를 읽는 클리어 데이터 배열입니다.
+     */
+    public ClearData[] getClears() {
+        return clears;
+    }
+
+    /**
+     * 주어진 {@link ClearData}가 {@link ClearStore}의 버퍼를 읽는 개체인지 확인합니다.
+     *
+     * @param clear 확인할 클리어 데이터입니다.
+     * @return 버퍼를 읽는 개체일 경우 {@code true}를 반환합니다.
+     */
+    public static boolean isStored(ClearData clear) {
+        return clear instanceof View;
+    }
+
+    /**
+     * 주어진 {@link ClearData}가 저장된 방식을 반환합니다.
+     *
+     * @param clear 확인할 클리어 데이터입니다.
+     * @return {@link ClearStore}에 저장된 개체일 경우 그 저장소의 방식을, 그 외의 경우 {@link StorageOption#HEAP}을 반환합니다.
+     */
+    public static StorageOption getStorageOption(ClearData clear) {
+        return clear instanceof View view ? view.store.option : StorageOption.HEAP;
+    }
+
+    /**
+     * 버퍼를 할당합니다. {@link StorageOption#MAPPED_FILE}일 경우 임시 파일을 매핑한 후 바로 삭제하며,
+     * 매핑된 파일을 삭제할 수 없는 운영체제(Windows)에서는 파일을 남겨 두고 이 저장소가 더 이상 사용되지 않을 때 삭제합니다.
+     */
+    private ByteBuffer allocate(int capacity) {
+        if(option == StorageOption.OFF_HEAP) return ByteBuffer.allocateDirect(capacity);
+        deletePendingFiles();
+        try {
+            Path file = Files.createTempFile("adofai-gg-clears", ".bin");
+            file.toFile().deleteOnExit();
+            ByteBuffer mapped;
+            try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                List<Path> files = this.files;
+                if(files.isEmpty()) CLEANER.register(this, () -> {
+                    PENDING_FILES.addAll(files);
+                    deletePendingFiles();
+                });
+                files.add(file);
+            }
+            return mapped;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 삭제하지 못한 임시 파일을 다시 삭제합니다. 매핑이 아직 해제되지 않아 삭제하지 못한 파일은 다음에 다시 시도하며,
+     * 끝까지 삭제하지 못한 파일은 JVM이 종료될 때 삭제됩니다.
+     */
+    private static void deletePendingFiles() {
+        for(Path file : PENDING_FILES) {
+            try {
+                Files.deleteIfExists(file);
+                PENDING_FILES.remove(file);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private void write(int row, ClearData clear, StringPool pool) {
+        putInt(ID, row, clear.getId());
+        putLong(TIME, row, clear.getTimeStampMillis());
+        putInt(USER_CODE, row, clear.getUserCode());
+        putInt(MAP_ID, row, clear.getMapId());
+        putDouble(RA, row, clear.getRa());
+        putDouble(ACCURACY, row, clear.getAccuracy());
+        putInt(SPEED, row, clear.getSpeed());
+        putDouble(X_ACCURACY, row, clear.getXAccuracy());
+        putDouble(PLAY_POINT, row, clear.getPlayPoint());
+        putInt(LOCAL_RANK, row, clear.getLocalRank());
+        putInt(SONG_RANK, row, clear.getSongRank());
+        putInt(TOTAL_RANK, row, clear.getTotalRank());
+        putInt(RECORD_CODE, row, clear.getRecordCode());
+        putInt(IS_OVER_LAPED, row, clear.getIsOverLaped());
+        putInt(IS_NEW, row, clear.getIsNew());
+        putDouble(WEIGHTED, row, clear.getWeighted());
+        buffer.putFloat(columns[FEELING] + row * 4, clear.getFeeling());
+        putInt(TIME_STAMP, row, pool.add(clear.getTimeStamp()));
+        putInt(NAME, row, pool.add(clear.getName()));
+        putInt(VIDEO_LINK, row, pool.add(clear.getVideoLink()));
+        putInt(OTHER, row, pool.add(clear.getOther()));
+    }
+
+    /**
+     * 구간마다 만든 문자열 영역을 하나의 버퍼로 합치고, 제외된 행을 건너뛰도록 행을 앞으로 옮긴 후 각 행을 읽는 개체를 만듭니다.
+     *
+     * @param rowCount 기록된 행의 수입니다.
+     * @param accepted 행이 변환되었는지 나타내는 배열입니다. null일 경우 모든 행이 변환된 것으로 봅니다.
+     * @param pools 구간마다 만든 문자열 영역입니다. 행의 문자열 위치는 각 구간의 문자열 영역을 기준으로 기록되어 있습니다.
+     * @param chunkSize 한 구간의 행의 수입니다.
+     */
+    private void finish(int rowCount, boolean[] accepted, StringPool[] pools, int chunkSize) {
+        int[] bases = new int[pools.length];
+        int total = 0;
+        for(int i = 0; i < pools.length; i++) {
+            bases[i] = total;
+            total = Math.addExact(total, pools[i].size());
+        }
+        strings = ByteBuffer.allocate(0);
+        if(total > 0) {
+            strings = allocate(total);
+            for(int i = 0; i < pools.length; i++) strings.put(bases[i], pools[i].toByteArray());
+        }
+        int size = 0;
+        for(int i = 0; i < rowCount; i++) {
+            if(accepted != null && !accepted[i]) continue;
+            if(size != i) {
+                for(int column = 0; column < WIDTHS.length; column++) {
+                    if(WIDTHS[column] == 8) buffer.putLong(columns[column] + size * 8, buffer.getLong(columns[column] + i * 8));
+                    else buffer.putInt(columns[column] + size * 4, buffer.getInt(columns[column] + i * 4));
+                }
+            }
+            int base = bases[i / chunkSize];
+            if(base != 0) {
+                for(int column : STRING_COLUMNS) {
+                    int reference = getInt(column, size);
+                    if(reference != -1) putInt(column, size, reference + base);
+                }
+            }
+            size++;
+        }
+        clears = new ClearData[size];
+        for(int i = 0; i < size; i++) clears[i] = new View(this, i);
+    }
+
+    private void putInt(int column, int row, int value) {
+        buffer.putInt(columns[column] + row * 4, value);
+    }
+
+    private void putLong(int column, int row, long value) {
+        buffer.putLong(columns[column] + row * 8, value);
+    }
+
+    private void putDouble(int column, int row, double value) {
+        buffer.putDouble(columns[column] + row * 8, value);
+    }
+
+    private int getInt(int column, int row) {
+        return buffer.getInt(columns[column] + row * 4);
+    }
+
+    private double getDouble(int column, int row) {
+        return buffer.getDouble(columns[column] + row * 8);
+    }
+
+    private String getString(int column, int row) {
+        int reference = getInt(column, row);
+        if(reference == -1) return null;
+        byte[] bytes = new byte[strings.getInt(reference)];
+        strings.get(reference + 8, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int getStringHash(int column, int row) {
+        int reference = getInt(column, row);
+        return reference == -1 ? 0 : strings.getInt(reference + 4);
+    }
+
+    private boolean sameString(int column, int row, ClearStore other, int otherRow) {
+        int reference = getInt(column, row);
+        int otherReference = other.getInt(column, otherRow);
+        if(reference == -1 || otherReference == -1) return reference == otherReference;
+        if(other == this && reference == otherReference) return true;
+        int length = strings.getInt(reference);
+        if(length != other.strings.getInt(otherReference) || strings.getInt(reference + 4) != other.strings.getInt(otherReference + 4)) return false;
+        for(int i = 0; i < length; i++) if(strings.get(reference + 8 + i) != other.strings.get(otherReference + 8 + i)) return false;
+        return true;
+    }
+
+    /**
+     * 한 구간의 문자열 영역입니다. 같은 구간 안에서 같은 문자열은 한 번만 저장됩니다.
+     */
+    private static class StringPool {
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        private int add(String value) {
+            if(value == null) return -1;
+            Integer offset = dictionary.get(value);
+            if(offset != null) return offset;
+            int position = bytes.size();
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(encoded.length);
+            writeInt(value.hashCode());
+            bytes.writeBytes(encoded);
+            dictionary.put(value, position);
+            return position;
+        }
+
+        private void writeInt(int value) {
+            bytes.write(value >>> 24);
+            bytes.write(value >>> 16);
+            bytes.write(value >>> 8);
+            bytes.write(value);
+        }
+
+        private int size() {
+            return bytes.size();
+        }
+
+        private byte[] toByteArray() {
+            return bytes.toByteArray();
+        }
+    }
+
+    /**
+     * {@link ClearStore}의 한 행을 읽는 {@link ClearData}입니다. 저장소와 행 번호 외의 필드를 가지지 않습니다.
+     */
+    private static final class View extends ClearData {
+        private final ClearStore store;
+        private final int row;
+
+        private View(ClearStore store, int row) {
+            this.store = store;
+            this.row = row;
+        }
+
+        @Override
+        public int getId() {
+            return store.getInt(ID, row);
+        }
+
+        @Override
+        public String getTimeStamp() {
+            return store.getString(TIME_STAMP, row);
+        }
+
+        @Override
+        public long getTimeStampMillis() {
+            return store.buffer.getLong(store.columns[TIME] + row * 8);
+        }
+
+        @Override
+        public String getName() {
+            return store.getString(NAME, row);
+        }
+
+        @Override
+        public int getUserCode() {
+            return store.getInt(USER_CODE, row);
+        }
+
+        @Override
+        public int getMapId() {
+            return store.getInt(MAP_ID, row);
+        }
+
+        @Override
+        public String getVideoLink() {
+            return store.getString(VIDEO_LINK, row);
+        }
+
+        @Override
+        public double getRa() {
+            return store.getDouble(RA, row);
+        }
+
+        @Override
+        public double getAccuracy() {
+            return store.getDouble(ACCURACY, row);
+        }
+
+        @Override
+        public int getSpeed() {
+            return store.getInt(SPEED, row);
+        }
+
+        @Override
+        public double getXAccuracy() {
+            return store.getDouble(X_ACCURACY, row);
+        }
+
+        @Override
+        public double getPlayPoint() {
+            return store.getDouble(PLAY_POINT, row);
+        }
+
+        @Override
+        public int getLocalRank() {
+            return store.getInt(LOCAL_RANK, row);
+        }
+
+        @Override
+        public int getSongRank() {
+            return store.getInt(SONG_RANK, row);
+        }
+
+        @Override
+        public int getTotalRank() {
+            return store.getInt(TOTAL_RANK, row);
+        }
+
+        @Override
+        public int getRecordCode() {
+            return store.getInt(RECORD_CODE, row);
+        }
+
+        @Override
+        public int getIsOverLaped() {
+            return store.getInt(IS_OVER_LAPED, row);
+        }
+
+        @Override
+        public int getIsNew() {
+            return store.getInt(IS_NEW, row);
+        }
+
+        @Override
+        public double getWeighted() {
+            return store.getDouble(WEIGHTED, row);
+        }
+
+        @Override
+        public String getOther() {
+            return store.getString(OTHER, row);
+        }
+
+        @Override
+        public float getFeeling() {
+            return store.buffer.getFloat(store.columns[FEELING] + row * 4);
+        }
+
+        @Override
+        boolean sameStrings(ClearData other) {
+            if(!(other instanceof View view)) return super.sameStrings(other);
+            for(int column : STRING_COLUMNS) if(!store.sameString(column, row, view.store, view.row)) return false;
+            return true;
+        }
+
+        @Override
+        int timeStampHash() {
+            return store.getStringHash(TIME_STAMP, row);
+        }
+
+        @Override
+        int nameHash() {
+            return store.getStringHash(NAME, row);
+        }
+
+        @Override
+        int videoLinkHash() {
+            return store.getStringHash(VIDEO_LINK, row);
+        }
+
+        @Override
+        int otherHash() {
+            return store.getStringHash(OTHER, row);
+        }
+    }
+}
@@ -0,0 +1,520 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.data;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 이 클래스는 Google Sheets gviz 응답의 행과 셀 값을 나타냅니다.
+ *
+ * <p>{@link #parse(byte[])}는 응답의 바이트 배열을 복사하지 않고 그대로 읽습니다.
+ * {@code google.visualization.Query.setResponse(...)}로 감싸진 부분은 잘라내지 않고 첫 번째 JSON 개체부터 읽으며,
+ * {@code table.rows[].c[].v}를 제외한 값은 해석하지 않고 건너뜁니다.
+ * 숫자는 문자열을 만들지 않고 바이트에서 바로 기본형으로 변환하며, 문자열은 항상 UTF-8로 해석합니다.
+ *
+ * <p>{@link #of(JsonObject)}는 이미 해석된 {@link JsonObject}를 같은 형태로 변환하므로,
+ * {@link MapData}, {@link ClearData}, {@link UserData}는 하나의 방식으로만 행을 읽습니다.
+ *
+ * @author Jongyeol
+ * @see MapData
+ * @see ClearData
+ * @see UserData
+ */
+public class GvizTable {
+    private static final byte NONE = 0;
+    private static final byte NUMBER = 1;
+    private static final byte STRING = 2;
+    private static final byte OTHER = 3;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final byte[] source;
+    private int pos;
+    private int keyStart;
+    private int keyEnd;
+    private boolean hasRows;
+    private int rowCount;
+    private int[] rowStarts = new int[64];
+    private int[] rowEnds = new int[64];
+    private int cellCount;
+    private byte[] types = new byte[1024];
+    private double[] numbers = new double[1024];
+    private int[] numberStarts = new int[1024];
+    private String[] strings = new String[1024];
+
+    private GvizTable(byte[] source) {
+        this.source = source;
+    }
+
+    /**
+     * gviz 응답의 바이트 배열을 읽습니다.
+     *
+     * @param bytes UTF-8로 인코딩된 응답입니다. JSONP로 감싸져 있어도 됩니다.
+     * @return 응답의 행과 셀 값을 담은 {@link GvizTable}입니다.
+     * @throws JsonParseException 응답이 올바른 형식이 아니거나 행 정보가 없을 경우 예외가 발생합니다.
+     */
+    public static GvizTable parse(byte[] bytes) {
+        int start = 0;
+        while(start < bytes.length && bytes[start] != '{') start++;
+        if(start == bytes.length) throw new JsonParseException("Response does not contain a JSON object");
+        GvizTable table = new GvizTable(bytes);
+        table.pos = start;
+        table.readResponse();
+        if(!table.hasRows) throw new JsonParseException("Response does not contain table rows");
+        return table;
+    }
+
+    /**
+     * 이미 해석된 gviz 응답을 변환합니다.
+     *
+     * @param object gviz 응답의 JSON 개체입니다.
+     * @return 응답의 행과 셀 값을 담은 {@link GvizTable}입니다.
+     */
+    public static GvizTable of(JsonObject object) {
+        GvizTable table = new GvizTable(null);
+        JsonArray rows = object.getAsJsonObject("table").getAsJsonArray("rows");
+        for(JsonElement row : rows) {
+            int start = -1;
+            int end = -1;
+            JsonElement cells = row.isJsonObject() ? row.getAsJsonObject().get("c") : null;
+            if(cells != null && cells.isJsonArray()) {
+                start = table.cellCount;
+                for(JsonElement cell : cells.getAsJsonArray()) table.addCell(cell);
+                end = table.cellCount;
+            }
+            table.addRow(start, end);
+        }
+        return table;
+    }
+
+    /**
+     * 행의 수를 반환합니다.
+     *
+     * @return 행의 수입니다.
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 지정된 행에 셀 목록이 있는지 확인합니다.
+     *
+     * @param row 행의 위치입니다.
+     * @return 셀 목록이 있을 경우 {@code true}를 반환합니다.
+     */
+    public boolean hasCells(int row) {
+        return rowStarts[row] != -1;
+    }
+
+    /**
+     * 지정된 셀의 값이 숫자인지 확인합니다.
+     *
+     * @param row 행의 위치입니다.
+     * @param column 열의 위치입니다.
+     * @return 셀의 값이 숫자일 경우 {@code true}를 반환합니다.
+     */
+    public boolean isNumber(int row, int column) {
+        int cell = cell(row, column);
+        return cell != -1 && types[cell] == NUMBER;
+    }
+
+    /**
+     * 지정된 셀의 숫자 값을 반환합니다.
+     *
+     * @param row 행의 위치입니다.
+     * @param column 열의 위치입니다.
+     * @return 셀의 숫자 값입니다. 값이 숫자가 아닐 경우 {@code -1}을 반환합니다.
+     */
+    public double getDouble(int row, int column) {
+        int cell = cell(row, column);
+        return cell != -1 && types[cell] == NUMBER ? numbers[cell] : -1;
+    }
+
+    /**
+     * 지정된 셀의 숫자 값을 float로 반환합니다.
+     *
+     * @param row 행의 위치입니다.
+     * @param column 열의 위치입니다.
+     * @return 셀의 숫자 값입니다. 값이 숫자가 아닐 경우 {@code -1}을 반환합니다.
+     */
+    public float getFloat(int row, int column) {
+        return (float) getDouble(row, column);
+    }
+
+    /**
+     * 지정된 셀의 숫자 값을 정수로 반환합니다. 소수점 아래는 버립니다.
+     *
+     * @param row 행의 위치입니다.
+     * @param column 열의 위치입니다.
+     * @return 셀의 숫자 값입니다. 값이 숫자가 아닐 경우 {@code -1}을 반환합니다.
+     */
+    public int getInt(int row, int column) {
+        return (int) getDouble(row, column);
+    }
+
+    /**
+     * 지정된 셀의 값을 문자열로 반환합니다.
+     *
+     * @param row 행의 위치입니다.
+     * @param column 열의 위치입니다.
+     * @return 셀의 값입니다. 값이 없거나 개체, 배열일 경우 null을 반환합니다.
+     */
+    public String getString(int row, int column) {
+        int cell = cell(row, column);
+        if(cell == -1) return null;
+        if(types[cell] == STRING || strings[cell] != null) return strings[cell];
+        if(types[cell] != NUMBER) return null;
+        int end = numberStarts[cell];
+        while(end < source.length && isNumberByte(source[end])) end++;
+        return new String(source, numberStarts[cell], end - numberStarts[cell], StandardCharsets.ISO_8859_1);
+    }
+
+    private int cell(int row, int column) {
+        int start = rowStarts[row];
+        if(start == -1 || column >= rowEnds[row] - start) return -1;
+        return start + column;
+    }
+
+    private void addRow(int start, int end) {
+        if(rowCount == rowStarts.length) {
+            rowStarts = Arrays.copyOf(rowStarts, rowCount * 2);
+            rowEnds = Arrays.copyOf(rowEnds, rowCount * 2);
+        }
+        rowStarts[rowCount] = start;
+        rowEnds[rowCount++] = end;
+    }
+
+    private int newCell() {
+        if(cellCount == types.length) {
+            int capacity = cellCount * 2;
+            types = Arrays.copyOf(types, capacity);
+            numbers = Arrays.copyOf(numbers, capacity);
+            numberStarts = Arrays.copyOf(numberStarts, capacity);
+            strings = Arrays.copyOf(strings, capacity);
+        }
+        return cellCount++;
+    }
+
+    private void addCell(JsonElement element) {
+        int cell = newCell();
+        JsonElement value = element.isJsonObject() ? element.getAsJsonObject().get("v") : null;
+        if(value == null || value.isJsonNull()) return;
+        if(!value.isJsonPrimitive()) {
+            types[cell] = OTHER;
+            return;
+        }
+        JsonPrimitive primitive = value.getAsJsonPrimitive();
+        strings[cell] = primitive.getAsString();
+        if(primitive.isNumber()) {
+            types[cell] = NUMBER;
+            numbers[cell] = primitive.getAsDouble();
+        } else types[cell] = STRING;
+    }
+
+    private void readResponse() {
+        expect('{');
+        if(consume('}')) return;
+        do {
+            readKey();
+            if(isKey("table")) readTable();
+            else skipValue();
+        } while(consume(','));
+        expect('}');
+    }
+
+    private void readTable() {
+        if(peek() != '{') {
+            skipValue();
+            return;
+        }
+        pos++;
+        if(consume('}')) return;
+        do {
+            readKey();
+            if(isKey("rows") && peek() == '[') readRows();
+            else skipValue();
+        } while(consume(','));
+        expect('}');
+    }
+
+    private void readRows() {
+        pos++;
+        hasRows = true;
+        if(consume(']')) return;
+        do readRow();
+        while(consume(','));
+        expect(']');
+    }
+
+    private void readRow() {
+        int start = -1;
+        int end = -1;
+        if(peek() != '{') skipValue();
+        else {
+            pos++;
+            if(!consume('}')) {
+                do {
+                    readKey();
+                    if(isKey("c") && peek() == '[') {
+                        start = cellCount;
+                        readCells();
+                        end = cellCount;
+                    } else skipValue();
+                } while(consume(','));
+                expect('}');
+            }
+        }
+        addRow(start, end);
+    }
+
+    private void readCells() {
+        pos++;
+        if(consume(']')) return;
+        do readCell();
+        while(consume(','));
+        expect(']');
+    }
+
+    private void readCell() {
+        int cell = newCell();
+        types[cell] = NONE;
+        strings[cell] = null;
+        if(peek() != '{') {
+            skipValue();
+            return;
+        }
+        pos++;
+        if(consume('}')) return;
+        do {
+            readKey();
+            if(isKey("v")) readValue(cell);
+            else skipValue();
+        } while(consume(','));
+        expect('}');
+    }
+
+    private void readValue(int cell) {
+        byte c = peek();
+        if(c == '"') {
+            types[cell] = STRING;
+            strings[cell] = readString();
+        } else if(c == '-' || (c >= '0' && c <= '9')) {
+            types[cell] = NUMBER;
+            numberStarts[cell] = pos;
+            numbers[cell] = readNumber();
+        } else if(c == 't' || c == 'f') {
+            types[cell] = STRING;
+            strings[cell] = c == 't' ? "true" : "false";
+            skipValue();
+        } else if(c == 'n') {
+            types[cell] = NONE;
+            skipValue();
+        } else {
+            types[cell] = OTHER;
+            skipValue();
+        }
+    }
+
+    private void readKey() {
+        expect('"');
+        keyStart = pos;
+        pos = endOfString(pos);
+        keyEnd = pos++;
+        expect(':');
+    }
+
+    private boolean isKey(String name) {
+        if(keyEnd - keyStart != name.length()) return false;
+        for(int i = 0; i < name.length(); i++) if(source[keyStart + i] != name.charAt(i)) return false;
+        return true;
+    }
+
+    private String readString() {
+        int start = ++pos;
+        int end = endOfString(start);
+        pos = end + 1;
+        for(int i = start; i < end; i++) if(source[i] == '\\') return readEscapedString(start, end);
+        return new String(source, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private String readEscapedString(int start, int end) {
+        StringBuilder builder = new StringBuilder(end - start);
+        int segment = start;
+        int i = start;
+        while(i < end) {
+            if(source[i] != '\\') {
+                i++;
+                continue;
+            }
+            builder.append(new String(source, segment, i - segment, StandardCharsets.UTF_8));
+            byte escape = source[i + 1];
+            switch(escape) {
+                case 'n' -> builder.append('\n');
+                case 't' -> builder.append('\t');
+                case 'r' -> builder.append('\r');
+                case 'b' -> builder.append('\b');
+                case 'f' -> builder.append('\f');
+                case 'u' -> {
+                    if(i + 6 > end) throw new JsonParseException("Malformed unicode escape at " + i);
+                    int code = 0;
+                    for(int j = i + 2; j < i + 6; j++) {
+                        int digit = Character.digit(source[j], 16);
+                        if(digit == -1) throw new JsonParseException("Malformed unicode escape at " + i);
+                        code = code * 16 + digit;
+                    }
+                    builder.append((char) code);
+                    i += 4;
+                }
+                default -> builder.append((char) escape);
+            }
+            i += 2;
+            segment = i;
+        }
+        builder.append(new String(source, segment, end - segment, StandardCharsets.UTF_8));
+        return builder.toString();
+    }
+
+    private int endOfString(int start) {
+        int i = start;
+        while(i < source.length) {
+            byte c = source[i];
+            if(c == '"') return i;
+            i += c == '\\' ? 2 : 1;
+        }
+        throw new JsonParseException("Unterminated string at " + start);
+    }
+
+    private double readNumber() {
+        int start = pos;
+        boolean negative = source[pos] == '-';
+        if(negative) pos++;
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean exact = true;
+        int integerStart = pos;
+        while(pos < source.length && source[pos] >= '0' && source[pos] <= '9') {
+            if(digits < 18) {
+                mantissa = mantissa * 10 + (source[pos] - '0');
+                if(mantissa != 0) digits++;
+            } else exact = false;
+            pos++;
+        }
+        if(pos == integerStart) throw new JsonParseException("Malformed number at " + start);
+        if(pos < source.length && source[pos] == '.') {
+            int fractionStart = ++pos;
+            while(pos < source.length && source[pos] >= '0' && source[pos] <= '9') {
+                if(digits < 18) {
+                    mantissa = mantissa * 10 + (source[pos] - '0');
+                    if(mantissa != 0) digits++;
+                    exponent--;
+                } else exact = false;
+                pos++;
+            }
+            if(pos == fractionStart) throw new JsonParseException("Malformed number at " + start);
+        }
+        if(pos < source.length && (source[pos] == 'e' || source[pos] == 'E')) {
+            pos++;
+            boolean negativeExponent = false;
+            if(pos < source.length && (source[pos] == '-' || source[pos] == '+')) negativeExponent = source[pos++] == '-';
+            int exponentStart = pos;
+            int value = 0;
+            while(pos < source.length && source[pos] >= '0' && source[pos] <= '9') {
+                if(value < 10000) value = value * 10 + (source[pos] - '0');
+                pos++;
+            }
+            if(pos == exponentStart) throw new JsonParseException("Malformed number at " + start);
+            exponent += negativeExponent ? -value : value;
+        }
+        if(!exact || mantissa > (1L << 53) || exponent < -22 || exponent > 22)
+            return Double.parseDouble(new String(source, start, pos - start, StandardCharsets.ISO_8859_1));
+        double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+        return negative ? -value : value;
+    }
+
+    private void skipValue() {
+        byte c = peek();
+        switch(c) {
+            case '"' -> pos = endOfString(pos + 1) + 1;
+            case '{' -> {
+                pos++;
+                if(consume('}')) return;
+                do {
+                    readKey();
+                    skipValue();
+                } while(consume(','));
+                expect('}');
+            }
+            case '[' -> {
+                pos++;
+                if(consume(']')) return;
+                do skipValue();
+                while(consume(','));
+                expect(']');
+            }
+            default -> {
+                int start = pos;
+                while(pos < source.length && (isNumberByte(source[pos]) || (source[pos] >= 'a' && source[pos] <= 'z'))) pos++;
+                if(pos == start) throw new JsonParseException("Unexpected character '" + (char) c + "' at " + pos);
+            }
+        }
+    }
+
+    private static boolean isNumberByte(byte c) {
+        return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E';
+    }
+
+    private byte peek() {
+        while(pos < source.length) {
+            byte c = source[pos];
+            if(c != ' ' && c != '\n' && c != '\r' && c != '\t') return c;
+            pos++;
+        }
+        throw new JsonParseException("Unexpected end of response");
+    }
+
+    private boolean consume(char c) {
+        if(peek() != c) return false;
+        pos++;
+        return true;
+    }
+
+    private void expect(char c) {
+        if(!consume(c)) throw new JsonParseException("Expected '" + c + "' at " + pos);
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.data;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * 이 클래스는 데이터를 한 번 불러오는 동안 사용되는 정보를 담고 있습니다.
+ *
+ * <p>유저 이름, 아티스트, 제작자와 같이 여러 행에서 반복되는 문자열은 {@link #intern(String)}을 통해 하나의 개체로 합쳐집니다.
+ *
+ * <p>{@link #next()}로 만든 다음 {@link LoadContext}는 이전에 사용된 문자열을 이어받으므로,
+ * 데이터를 다시 불러와도 바뀌지 않은 문자열은 이전 {@link xyz.krmentos.adofaigg.Snapshot}의 개체를 그대로 사용합니다.
+ * 이어받은 문자열 중 다음 로드에서 사용되지 않은 문자열은 그 다음 로드로 넘어가지 않습니다.
+ *
+ * <p>형식이 올바르지 않아 제외된 행은 예외 대신 {@link #reject(int, String)}로 보고되며,
+ * {@link #getRejectedRows()}로 수를 확인하거나 {@link #setRejectHandler(ObjIntConsumer)}로 각 행을 전달받을 수 있습니다.
+ *
+ * <p>{@link #setExecutor(Executor)}로 실행기를 설정하면 행이 많은 데이터는 여러 구간으로 나뉘어 동시에 변환됩니다.
+ * 각 행은 미리 할당된 배열의 같은 위치에 저장되므로 결과의 순서는 한 스레드로 변환할 때와 같습니다.
+ *
+ * @author Jongyeol
+ * @see MapData
+ * @see ClearData
+ * @see UserData
+ */
+public class LoadContext {
+    /**
+     * 행을 나누어 변환할 때 한 구간에 포함되는 행의 수입니다.
+     */
+    public static final int PARALLEL_CHUNK_SIZE = 1024;
+    private final Map<String, String> previous;
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+    private ObjIntConsumer<String> rejectHandler;
+    private Executor executor;
+    private int rejectedRows;
+
+    /**
+     * 이전에 불러온 문자열이 없는 {@link LoadContext}를 생성합니다.
+     */
+    public LoadContext() {
+        this(null, null, null);
+    }
+
+    private LoadContext(Map<String, String> previous, ObjIntConsumer<String> rejectHandler, Executor executor) {
+        this.previous = previous;
+        this.rejectHandler = rejectHandler;
+        this.executor = executor;
+    }
+
+    /**
+     * 이 로드에서 사용된 문자열과 제외된 행을 전달받는 함수, 실행기를 이어받는 다음 {@link LoadContext}를 생성합니다.
+     *
+     * @return 다음 로드에 사용할 {@link LoadContext}입니다.
+     */
+    public LoadContext next() {
+        return new LoadContext(strings, rejectHandler, executor);
+    }
+
+    /**
+     * 형식이 올바르지 않아 제외된 행을 전달받는 함수를 설정합니다.
+     *
+     * @param rejectHandler 제외된 이유와 행 번호를 전달받는 함수입니다. null일 경우 전달하지 않습니다.
+     * @return {@link LoadContext} 개체 자신을 반환합니다.
+     */
+    public LoadContext setRejectHandler(ObjIntConsumer<String> rejectHandler) {
+        this.rejectHandler = rejectHandler;
+        return this;
+    }
+
+    /**
+     * 행을 나누어 변환할 실행기를 설정합니다.
+     *
+     * <p>행의 수가 {@link #PARALLEL_CHUNK_SIZE}의 두 배 이상일 경우에만 나누어 변환합니다.
+     *
+     * @param executor 행을 변환할 실행기입니다. null일 경우 불러오는 스레드에서 모든 행을 변환합니다.
+     * @return {@link LoadContext} 개체 자신을 반환합니다.
+     */
+    public LoadContext setExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * 이 로드에서 제외된 행의 수를 반환합니다.
+     *
+     * @return 제외된 행의 수입니다.
+     */
+    public synchronized int getRejectedRows() {
+        return rejectedRows;
+    }
+
+    /**
+     * 형식이 올바르지 않은 행을 제외된 것으로 기록합니다.
+     *
+     * <p>행을 나누어 변환하는 경우에도 제외된 행을 전달받는 함수는 한 번에 하나의 스레드에서만 호출되지만, 행 번호의 순서는 보장되지 않습니다.
+     *
+     * @param row 제외된 행 번호입니다.
+     * @param reason 제외된 이유입니다.
+     */
+    public synchronized void reject(int row, String reason) {
+        rejectedRows++;
+        if(rejectHandler != null) rejectHandler.accept(reason, row);
+    }
+
+    /**
+     * 같은 내용의 문자열이 이미 있을 경우 그 문자열을 반환합니다.
+     *
+     * @param value 합칠 문자열입니다.
+     * @return 같은 내용을 가진 공유된 문자열입니다. 값이 null일 경우 null을 반환합니다.
+     */
+    public String intern(String value) {
+        if(value == null) return null;
+        String string = strings.get(value);
+        if(string != null) return string;
+        if(previous != null) {
+            string = previous.get(value);
+            if(string != null) value = string;
+        }
+        string = strings.putIfAbsent(value, value);
+        return string == null ? value : string;
+    }
+
+    /**
+     * 각 행을 변환하여 제외되지 않은 행만 순서대로 담은 배열을 반환합니다.
+     *
+     * <p>실행기가 설정되어 있고 행이 충분히 많을 경우 {@link #PARALLEL_CHUNK_SIZE}개씩 나누어 실행기에서 변환합니다.
+     * 호출한 스레드도 남은 구간을 가져가 변환하며 시작되지 않은 작업은 기다리지 않으므로,
+     * 같은 실행기의 스레드에서 호출하거나 실행기의 스레드가 모두 사용 중이어도 멈추지 않습니다.
+     *
+     * @param rowCount 행의 수입니다.
+     * @param decoder 행 번호를 받아 개체를 반환하는 함수입니다. 제외된 행은 null을 반환합니다.
+     * @param generator 결과 배열을 생성하는 함수입니다.
+     * @return 변환된 개체 배열입니다. null이 포함되지 않습니다.
+     */
+    <T> T[] decodeRows(int rowCount, IntFunction<T> decoder, IntFunction<T[]> generator) {
+        T[] result = generator.apply(rowCount);
+        forEachChunk(rowCount, (from, to) -> {
+            for(int i = from; i < to; i++) result[i] = decoder.apply(i);
+        });
+        int size = 0;
+        for(T value : result) if(value != null) result[size++] = value;
+        return size == rowCount ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * 행을 {@link #PARALLEL_CHUNK_SIZE}개씩 나눈 구간마다 작업을 실행합니다. {@code i}번째 구간은 {@code i * PARALLEL_CHUNK_SIZE}번 행부터 시작합니다.
+     *
+     * <p>실행기가 설정되어 있고 행이 충분히 많을 경우 구간을 실행기에서 동시에 실행하며, 그 외에는 호출한 스레드에서 순서대로 실행합니다.
+     * 모든 구간이 끝난 후 반환합니다.
+     *
+     * @param rowCount 행의 수입니다.
+     * @param task 구간의 시작 행과 끝 행(포함하지 않음)을 받는 작업입니다.
+     */
+    void forEachChunk(int rowCount, ChunkTask task) {
+        int chunks = (rowCount + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+        if(executor == null || rowCount < PARALLEL_CHUNK_SIZE * 2) {
+            for(int chunk = 0; chunk < chunks; chunk++) task.run(chunk * PARALLEL_CHUNK_SIZE, Math.min((chunk + 1) * PARALLEL_CHUNK_SIZE, rowCount));
+            return;
+        }
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch remaining = new CountDownLatch(chunks);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Runnable worker = () -> {
+            int chunk;
+            while((chunk = next.getAndIncrement()) < chunks) {
+                try {
+                    task.run(chunk * PARALLEL_CHUNK_SIZE, Math.min((chunk + 1) * PARALLEL_CHUNK_SIZE, rowCount));
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    remaining.countDown();
+                }
+            }
+        };
+        for(int i = 1; i < chunks; i++) executor.execute(worker);
+        worker.run();
+        try {
+            remaining.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        if(failure.get() != null) throw failure.get();
+    }
+
+    /**
+     * {@link #forEachChunk(int, ChunkTask)}에서 한 구간을 처리하는 작업입니다.
+     */
+    @FunctionalInterface
+    interface ChunkTask {
+        void run(int from, int to);
+    }
+}
@@ -28,14 +28,11 @@
 
 package xyz.krmentos.adofaigg.data;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import lombok.*;
 import xyz.krmentos.adofaigg.query.MapQuery;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * 이 클래스는 맵 데이터를 나타냅니다.
@@ -75,59 +72,76 @@ public class MapData {
      * 주어진 JsonObject에서 {@link MapData} 배열을 생성합니다.
      *
      * @param object Json 데이터에서 {@link JsonObject}로 추출된 데이터입니다.
-     * @return {@link MapData} 배열로 변환된 데이터입니다.
+     * @return {@link MapData} 배열로 변환된 데이터입니다. 형식이 올바르지 않은 행은 제외되므로 배열에 null이 포함되지 않습니다.
      */
     public static MapData[] loadData(JsonObject object) {
-        JsonArray rows = object.getAsJsonObject("table").getAsJsonArray("rows");
-        MapData[] mapDataList = new MapData[rows.size()];
-        for(int i = 0; i < rows.size(); i++) {
-            try {
-                JsonArray data = rows.get(i).getAsJsonObject().getAsJsonArray("c");
-                MapData mapData = new MapData();
-                mapData.id = getData(data, 0).getAsInt();
-                mapData.song = getData(data, 1).getAsString();
-                mapData.artist = getData(data, 2).getAsString();
-                mapData.difficulty = getData(data, 16).getAsFloat();
-                mapData.creator = getData(data, 4).getAsString();
-                mapData.downloadLink = getString(data, 18);
-                mapData.workshopLink = getString(data, 19);
-                mapData.videoLink = getString(data, 20);
-                mapData.bpm = getDouble(data, 9);
-                mapData.tiles = getInt(data, 10);
-                List<Tag> tagList = new ArrayList<>(5);
-                for(int i2 = 11; i2 < 16; i2++) {
-                    try {
-                        tagList.add(Tag.convertTag(getString(data, i2)));
-                    } catch (NullPointerException ignored) {
-                    }
-                }
-                mapData.tags = tagList.toArray(new Tag[0]);
-                mapData.dlc = getString(data, 17) != null;
-                mapData.censorReason = getString(data, 24);
-                mapDataList[i] = mapData;
-            } catch (Exception ignored) {
-            }
-        }
-        return mapDataList;
+        return loadData(object, new LoadContext());
     }
 
-    private static JsonElement getData(JsonArray data, int id) {
-        JsonElement element = data.get(id);
-        return element.isJsonNull() ? null : element.getAsJsonObject().get("v");
-    }
-
-    private static String getString(JsonArray data, int id) {
-        JsonElement element = getData(data, id);
-        return element == null || element.isJsonNull() ? null : element.getAsString();
+    /**
+     * 주어진 JsonObject에서 {@link MapData} 배열을 생성합니다.
+     *
+     * <p>반복되는 문자열은 {@link LoadContext}를 통해 하나의 개체로 합쳐집니다.
+     *
+     * @param object Json 데이터에서 {@link JsonObject}로 추출된 데이터입니다.
+     * @param context 데이터를 불러오는 동안 사용할 {@link LoadContext}입니다.
+     * @return {@link MapData} 배열로 변환된 데이터입니다. 형식이 올바르지 않은 행은 제외되므로 배열에 null이 포함되지 않습니다.
+     */
+    public static MapData[] loadData(JsonObject object, LoadContext context) {
+        return loadData(GvizTable.of(object), context);
     }
 
-    private static double getDouble(JsonArray data, int id) {
-        JsonElement element = getData(data, id);
-        return element == null ? -1 : element.getAsDouble();
+    /**
+     * 주어진 {@link GvizTable}에서 {@link MapData} 배열을 생성합니다.
+     *
+     * <p>반복되는 문자열은 {@link LoadContext}를 통해 하나의 개체로 합쳐집니다.
+     *
+     * @param table gviz 응답에서 읽은 {@link GvizTable}입니다.
+     * @param context 데이터를 불러오는 동안 사용할 {@link LoadContext}입니다.
+     * @return {@link MapData} 배열로 변환된 데이터입니다. 형식이 올바르지 않은 행은 제외되므로 배열에 null이 포함되지 않습니다.
+     */
+    public static MapData[] loadData(GvizTable table, LoadContext context) {
+        return context.decodeRows(table.getRowCount(), i -> decodeRow(table, i, context), MapData[]::new);
     }
 
-    private static int getInt(JsonArray data, int id) {
-        JsonElement element = getData(data, id);
-        return element == null ? -1 : element.getAsInt();
+    private static MapData decodeRow(GvizTable table, int i, LoadContext context) {
+        if(!table.hasCells(i)) {
+            context.reject(i, "row has no cells");
+            return null;
+        }
+        String song = table.getString(i, 1);
+        String artist = table.getString(i, 2);
+        String creator = table.getString(i, 4);
+        if(!table.isNumber(i, 0) || !table.isNumber(i, 16) || song == null || artist == null || creator == null) {
+            context.reject(i, "missing required cell");
+            return null;
+        }
+        Tag[] tagBuffer = new Tag[5];
+        int tagCount = 0;
+        for(int i2 = 11; i2 < 16; i2++) {
+            String tagName = table.getString(i, i2);
+            if(tagName == null) continue;
+            Tag tag = Tag.findTag(tagName);
+            if(tag == null) {
+                context.reject(i, "unknown tag " + tagName);
+                return null;
+            }
+            tagBuffer[tagCount++] = tag;
+        }
+        MapData mapData = new MapData();
+        mapData.id = table.getInt(i, 0);
+        mapData.song = song;
+        mapData.artist = context.intern(artist);
+        mapData.difficulty = table.getFloat(i, 16);
+        mapData.creator = context.intern(creator);
+        mapData.downloadLink = table.getString(i, 18);
+        mapData.workshopLink = table.getString(i, 19);
+        mapData.videoLink = table.getString(i, 20);
+        mapData.bpm = table.getDouble(i, 9);
+        mapData.tiles = table.getInt(i, 10);
+        mapData.tags = Arrays.copyOf(tagBuffer, tagCount);
+        mapData.dlc = table.getString(i, 17) != null;
+        mapData.censorReason = table.getString(i, 24);
+        return mapData;
     }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.data;
+
+import lombok.*;
+
+/**
+ * 이 클래스는 한 맵의 클리어 통계를 나타냅니다.
+ *
+ * <p>{@link MapStats}는 데이터를 불러올 때 {@link Statistics}에서 모든 {@link ClearData}를 한 번에 집계하여 만들어집니다.
+ *
+ * @author Jongyeol
+ * @see Statistics
+ */
+@Data
+@Setter(AccessLevel.NONE)
+public class MapStats {
+    private int mapId;
+    private int clearCount;
+    private double bestXAccuracy = -1;
+    private double topPlayPoint = -1;
+    private String topPlayer;
+    private int topUserCode = -1;
+    private double medianSpeed;
+
+    MapStats(int mapId) {
+        this.mapId = mapId;
+    }
+
+    MapStats(MapStats other) {
+        mapId = other.mapId;
+        clearCount = other.clearCount;
+        bestXAccuracy = other.bestXAccuracy;
+        topPlayPoint = other.topPlayPoint;
+        topPlayer = other.topPlayer;
+        topUserCode = other.topUserCode;
+        medianSpeed = other.medianSpeed;
+    }
+
+    void add(ClearData clear) {
+        clearCount++;
+        bestXAccuracy = Math.max(bestXAccuracy, clear.getXAccuracy());
+        if(clear.getPlayPoint() > topPlayPoint) {
+            topPlayPoint = clear.getPlayPoint();
+            topPlayer = clear.getName();
+            topUserCode = clear.getUserCode();
+        }
+    }
+
+    void setMedianSpeed(double medianSpeed) {
+        this.medianSpeed = medianSpeed;
+    }
+}
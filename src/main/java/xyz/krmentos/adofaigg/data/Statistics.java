@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.data;
+
+import java.util.Arrays;
+
+/**
+ * 이 클래스는 {@link ClearData}로부터 계산된 맵별, 유저별 통계 표를 나타냅니다.
+ *
+ * <p>{@link #compute(MapData[], ClearData[])}는 클리어 데이터를 한 번 탐색하면서 {@link MapData}의 난이도를 함께 참조하여
+ * {@link MapStats}와 {@link UserStats}를 동시에 계산합니다. 중간 속도를 구하기 위해 맵별 속도만 한 번 더 정리합니다.
+ *
+ * <p>통계는 ID를 위치로 하는 배열에 저장되므로 {@link #getMapStats(int)}와 {@link #getUserStats(int)}는 상수 시간에 결과를 반환합니다.
+ *
+ * <p>클리어 데이터가 뒤에 추가되기만 한 경우 {@link #append(ClearData[], int)}로 추가된 데이터만 집계할 수 있습니다.
+ * 추가된 데이터가 속한 맵과 유저의 통계만 새로 만들고 나머지는 이전 {@link Statistics}와 공유하므로, 이전 통계는 바뀌지 않습니다.
+ *
+ * @author Jongyeol
+ * @see MapStats
+ * @see UserStats
+ */
+public class Statistics {
+    private static final Histogram EMPTY = new Histogram(new int[0], new int[0], 0);
+    private final MapStats[] mapStats;
+    private final UserStats[] userStats;
+    private final float[] difficulties;
+    private final Histogram[] speeds;
+    private final double[] accuracySums;
+
+    private Statistics(MapStats[] mapStats, UserStats[] userStats, float[] difficulties, Histogram[] speeds, double[] accuracySums) {
+        this.mapStats = mapStats;
+        this.userStats = userStats;
+        this.difficulties = difficulties;
+        this.speeds = speeds;
+        this.accuracySums = accuracySums;
+    }
+
+    /**
+     * 주어진 데이터로 통계를 계산합니다.
+     *
+     * @param maps 난이도를 참조할 맵 데이터 배열입니다. null일 경우 난이도를 알 수 없는 것으로 처리합니다.
+     * @param clears 집계할 클리어 데이터 배열입니다.
+     * @return 계산된 {@link Statistics}입니다.
+     */
+    public static Statistics compute(MapData[] maps, ClearData[] clears) {
+        int maxMapId = 0;
+        int maxUserCode = 0;
+        for(ClearData clear : clears) {
+            maxMapId = Math.max(maxMapId, clear.getMapId());
+            maxUserCode = Math.max(maxUserCode, clear.getUserCode());
+        }
+        int maxDifficultyId = maxMapId;
+        if(maps != null) for(MapData map : maps) maxDifficultyId = Math.max(maxDifficultyId, map.getId());
+        float[] difficulties = new float[maxDifficultyId + 1];
+        Arrays.fill(difficulties, -999);
+        if(maps != null) {
+            for(MapData map : maps) {
+                if(map.getId() > 0) difficulties[map.getId()] = map.getDifficulty();
+            }
+        }
+
+        MapStats[] mapStats = new MapStats[maxMapId + 1];
+        UserStats[] userStats = new UserStats[maxUserCode + 1];
+        double[] accuracySum = new double[maxUserCode + 1];
+        for(ClearData clear : clears) {
+            if(clear.getMapId() < 0 || clear.getUserCode() < 0) continue;
+            MapStats map = mapStats[clear.getMapId()];
+            if(map == null) map = mapStats[clear.getMapId()] = new MapStats(clear.getMapId());
+            map.add(clear);
+            UserStats user = userStats[clear.getUserCode()];
+            if(user == null) user = userStats[clear.getUserCode()] = new UserStats(clear.getUserCode());
+            user.add(difficulties[clear.getMapId()]);
+            accuracySum[clear.getUserCode()] += clear.getAccuracy();
+        }
+        for(UserStats user : userStats) if(user != null) user.setAverageAccuracy(accuracySum[user.getUserCode()] / user.getClearCount());
+
+        int[] offsets = new int[maxMapId + 2];
+        for(int i = 0; i <= maxMapId; i++) offsets[i + 1] = offsets[i] + (mapStats[i] == null ? 0 : mapStats[i].getClearCount());
+        int[] allSpeeds = new int[offsets[maxMapId + 1]];
+        int[] cursor = Arrays.copyOf(offsets, maxMapId + 1);
+        for(ClearData clear : clears) {
+            if(clear.getMapId() < 0 || clear.getUserCode() < 0) continue;
+            allSpeeds[cursor[clear.getMapId()]++] = clear.getSpeed();
+        }
+        Histogram[] speeds = new Histogram[maxMapId + 1];
+        for(int i = 0; i <= maxMapId; i++) {
+            if(mapStats[i] == null) continue;
+            int from = offsets[i], to = offsets[i + 1];
+            Arrays.sort(allSpeeds, from, to);
+            speeds[i] = EMPTY.merge(allSpeeds, from, to);
+            mapStats[i].setMedianSpeed(speeds[i].median());
+        }
+        return new Statistics(mapStats, userStats, difficulties, speeds, accuracySum);
+    }
+
+    /**
+     * 이 통계를 계산한 배열 뒤에 클리어 데이터가 추가된 배열의 통계를 계산합니다. 이 통계는 바뀌지 않습니다.
+     *
+     * <p>추가된 데이터가 속한 맵과 유저의 통계만 복사하여 갱신하므로, 걸리는 시간은 전체 클리어 데이터가 아닌
+     * 추가된 데이터의 수와 맵과 유저의 수에 비례합니다. 중간 속도는 맵마다 속도별 클리어 수로 저장하여 다시 계산합니다.
+     * 맵의 난이도는 이 통계를 계산할 때의 {@link MapData}를 사용합니다.
+     *
+     * @param clears 집계할 클리어 데이터 배열입니다. 앞부분은 이 통계를 계산한 배열과 같은 데이터여야 합니다.
+     * @param from 추가된 데이터가 시작하는 위치입니다.
+     * @return 계산된 {@link Statistics}입니다.
+     */
+    public Statistics append(ClearData[] clears, int from) {
+        if(from == clears.length) return this;
+        int maxMapId = mapStats.length - 1;
+        int maxUserCode = userStats.length - 1;
+        for(int i = from; i < clears.length; i++) {
+            maxMapId = Math.max(maxMapId, clears[i].getMapId());
+            maxUserCode = Math.max(maxUserCode, clears[i].getUserCode());
+        }
+        MapStats[] mapStats = Arrays.copyOf(this.mapStats, maxMapId + 1);
+        UserStats[] userStats = Arrays.copyOf(this.userStats, maxUserCode + 1);
+        double[] accuracySums = Arrays.copyOf(this.accuracySums, maxUserCode + 1);
+        Histogram[] speeds = Arrays.copyOf(this.speeds, maxMapId + 1);
+        int[] added = new int[maxMapId + 1];
+        for(int i = from; i < clears.length; i++) {
+            ClearData clear = clears[i];
+            int mapId = clear.getMapId(), userCode = clear.getUserCode();
+            if(mapId < 0 || userCode < 0) continue;
+            MapStats map = mapStats[mapId];
+            if(map == null) map = mapStats[mapId] = new MapStats(mapId);
+            else if(mapId < this.mapStats.length && map == this.mapStats[mapId]) map = mapStats[mapId] = new MapStats(map);
+            map.add(clear);
+            UserStats user = userStats[userCode];
+            if(user == null) user = userStats[userCode] = new UserStats(userCode);
+            else if(userCode < this.userStats.length && user == this.userStats[userCode]) user = userStats[userCode] = new UserStats(user);
+            user.add(mapId < difficulties.length ? difficulties[mapId] : -999);
+            accuracySums[userCode] += clear.getAccuracy();
+            user.setAverageAccuracy(accuracySums[userCode] / user.getClearCount());
+            added[mapId]++;
+        }
+        int[][] fresh = new int[maxMapId + 1][];
+        for(int mapId = 0; mapId <= maxMapId; mapId++) {
+            if(added[mapId] > 0) fresh[mapId] = new int[added[mapId]];
+            added[mapId] = 0;
+        }
+        for(int i = from; i < clears.length; i++) {
+            ClearData clear = clears[i];
+            if(clear.getMapId() < 0 || clear.getUserCode() < 0) continue;
+            fresh[clear.getMapId()][added[clear.getMapId()]++] = clear.getSpeed();
+        }
+        for(int mapId = 0; mapId <= maxMapId; mapId++) {
+            if(fresh[mapId] == null) continue;
+            Arrays.sort(fresh[mapId]);
+            speeds[mapId] = (speeds[mapId] == null ? EMPTY : speeds[mapId]).merge(fresh[mapId], 0, fresh[mapId].length);
+            mapStats[mapId].setMedianSpeed(speeds[mapId].median());
+        }
+        return new Statistics(mapStats, userStats, difficulties, speeds, accuracySums);
+    }
+
+    /**
+     * 지정된 맵 ID의 {@link MapStats}를 반환합니다.
+     *
+     * @param mapId 검색할 맵 ID입니다.
+     * @return 맵의 통계입니다. 클리어 데이터가 없을 경우 null을 반환합니다.
+     */
+    public MapStats getMapStats(int mapId) {
+        return mapId < 0 || mapId >= mapStats.length ? null : mapStats[mapId];
+    }
+
+    /**
+     * 지정된 사용자 코드의 {@link UserStats}를 반환합니다.
+     *
+     * @param userCode 검색할 사용자 코드입니다.
+     * @return 유저의 통계입니다. 클리어 데이터가 없을 경우 null을 반환합니다.
+     */
+    public UserStats getUserStats(int userCode) {
+        return userCode < 0 || userCode >= userStats.length ? null : userStats[userCode];
+    }
+
+    /**
+     * 한 맵의 속도별 클리어 수입니다. 속도는 오름차순으로 저장되며, 속도의 종류는 클리어 수보다 훨씬 적습니다.
+     */
+    private static final class Histogram {
+        private final int[] values;
+        private final int[] counts;
+        private final int total;
+
+        private Histogram(int[] values, int[] counts, int total) {
+            this.values = values;
+            this.counts = counts;
+            this.total = total;
+        }
+
+        /**
+         * 정렬된 속도 배열의 구간을 더한 새 {@link Histogram}을 반환합니다.
+         */
+        private Histogram merge(int[] sorted, int from, int to) {
+            int[] values = new int[this.values.length + (to - from)];
+            int[] counts = new int[values.length];
+            int i = 0, j = from, size = 0;
+            while(i < this.values.length || j < to) {
+                int value = j == to || (i < this.values.length && this.values[i] <= sorted[j]) ? this.values[i] : sorted[j];
+                int count = 0;
+                if(i < this.values.length && this.values[i] == value) count += this.counts[i++];
+                while(j < to && sorted[j] == value) {
+                    count++;
+                    j++;
+                }
+                values[size] = value;
+                counts[size++] = count;
+            }
+            return new Histogram(Arrays.copyOf(values, size), Arrays.copyOf(counts, size), total + (to - from));
+        }
+
+        private double median() {
+            int middle = total / 2;
+            return total % 2 == 1 ? get(middle) : (get(middle - 1) + get(middle)) / 2.0;
+        }
+
+        private int get(int position) {
+            for(int i = 0; i < values.length; i++) {
+                position -= counts[i];
+                if(position < 0) return values[i];
+            }
+            throw new IndexOutOfBoundsException();
+        }
+    }
+}
@@ -28,6 +28,9 @@
 
 package xyz.krmentos.adofaigg.data;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Adofai.gg API에서 사용되는 맵 태그를 정의합니다.
  *
@@ -169,6 +172,33 @@ public enum Tag {
      */
     SuddenAcceleration;
 
+    private static final Map<String, Tag> TAGS = new HashMap<>();
+
+    static {
+        TAGS.put("#동시치기", Pseudo);
+        TAGS.put("#2+동타", Pseudo2);
+        TAGS.put("#셋잇단", Triplet);
+        TAGS.put("#다섯잇단", Quintuplet);
+        TAGS.put("#일곱잇단", Septuplet);
+        TAGS.put("#폴리리듬", PolyRhythm);
+        TAGS.put("#스윙", Swing);
+        TAGS.put("#트레실로", Tresillo);
+        TAGS.put("#개박", FunkyBeat);
+        TAGS.put("#64+비트", Beat64);
+        TAGS.put("#변속", Acceleration);
+        TAGS.put("#질주", Gallop);
+        TAGS.put("#마법진", MagicShape);
+        TAGS.put("#암기", Memorization);
+        TAGS.put("#DLC", DLC);
+        TAGS.put("#4분이상", Long);
+        TAGS.put("#흰토끼", Slow);
+        TAGS.put("#배속변경X", NoSpeedChange);
+        TAGS.put("#소용돌이X", NoTwirl);
+        TAGS.put("#기믹", Gimmick);
+        TAGS.put("#NSFW", NSFW);
+        TAGS.put("#급가속", SuddenAcceleration);
+    }
+
     /**
      * 주어진 문자열을 Tag 열거형으로 변환합니다.
      *
@@ -179,30 +209,20 @@ public enum Tag {
      */
     public static Tag convertTag(String name) {
         if(name == null) throw new NullPointerException();
-        return switch(name) {
-            case "#동시치기" -> Pseudo;
-            case "#2+동타" -> Pseudo2;
-            case "#셋잇단" -> Triplet;
-            case "#다섯잇단" -> Quintuplet;
-            case "#일곱잇단" -> Septuplet;
-            case "#폴리리듬" -> PolyRhythm;
-            case "#스윙" -> Swing;
-            case "#트레실로" -> Tresillo;
-            case "#개박" -> FunkyBeat;
-            case "#64+비트" -> Beat64;
-            case "#변속" -> Acceleration;
-            case "#질주" -> Gallop;
-            case "#마법진" -> MagicShape;
-            case "#암기" -> Memorization;
-            case "#DLC" -> DLC;
-            case "#4분이상" -> Long;
-            case "#흰토끼" -> Slow;
-            case "#배속변경X" -> NoSpeedChange;
-            case "#소용돌이X" -> NoTwirl;
-            case "#기믹" -> Gimmick;
-            case "#NSFW" -> NSFW;
-            case "#급가속" -> SuddenAcceleration;
-            default -> throw new IllegalArgumentException(name);
-        };
+        Tag tag = TAGS.get(name);
+        if(tag == null) throw new IllegalArgumentException(name);
+        return tag;
+    }
+
+    /**
+     * 주어진 문자열에 해당하는 Tag 상수를 찾습니다.
+     *
+     * <p>{@link #convertTag(String)}와 달리 예외를 발생시키지 않으므로, 데이터를 불러올 때 사용합니다.
+     *
+     * @param name 변환할 문자열입니다.
+     * @return 주어진 문자열에 해당하는 Tag 상수입니다. 문자열이 null이거나 일치하는 Tag 상수가 없을 경우 null을 반환합니다.
+     */
+    public static Tag findTag(String name) {
+        return name == null ? null : TAGS.get(name);
     }
 }
@@ -28,8 +28,6 @@
 
 package xyz.krmentos.adofaigg.data;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import lombok.AccessLevel;
 import lombok.Data;
@@ -39,6 +37,7 @@ import xyz.krmentos.adofaigg.query.MapQuery;
 import xyz.krmentos.adofaigg.query.UserQuery;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -71,41 +70,57 @@ public class UserData {
      * 주어진 JsonObject에서 {@link UserData} 배열을 생성합니다.
      *
      * @param object Json 데이터에서 {@link JsonObject}로 추출된 데이터입니다.
-     * @return {@link UserData} 배열로 변환된 데이터입니다.
+     * @return {@link UserData} 배열로 변환된 데이터입니다. 형식이 올바르지 않은 행은 제외되므로 배열에 null이 포함되지 않습니다.
      */
     public static UserData[] loadData(JsonObject object) {
-        JsonArray rows = object.getAsJsonObject("table").getAsJsonArray("rows");
-        UserData[] userDataList = new UserData[rows.size()];
-        for(int i = 0; i < rows.size(); i++) {
-            try {
-                JsonArray data = rows.get(i).getAsJsonObject().getAsJsonArray("c");
-                UserData mapData = new UserData();
-                mapData.id = getInt(data, 10);
-                mapData.userName = getString(data, 9);
-                mapData.rank = getInt(data, 8);
-                mapData.totalPP = getDouble(data, 11);
-                mapData.bestRecord = getString(data, 12);
-                mapData.videoLink = getString(data, 13);
-                userDataList[mapData.id - 1] = mapData;
-            } catch (Exception ignored) {
-            }
-        }
-        return userDataList;
-    }
-
-    private static JsonElement getData(JsonArray data, int id) {
-        return data.get(id).getAsJsonObject().get("v");
+        return loadData(object, new LoadContext());
     }
 
-    private static String getString(JsonArray data, int id) {
-        return getData(data, id).getAsString();
+    /**
+     * 주어진 JsonObject에서 {@link UserData} 배열을 생성합니다.
+     *
+     * <p>반복되는 문자열은 {@link LoadContext}를 통해 하나의 개체로 합쳐집니다.
+     *
+     * @param object Json 데이터에서 {@link JsonObject}로 추출된 데이터입니다.
+     * @param context 데이터를 불러오는 동안 사용할 {@link LoadContext}입니다.
+     * @return {@link UserData} 배열로 변환된 데이터입니다. 형식이 올바르지 않은 행은 제외되므로 배열에 null이 포함되지 않습니다.
+     */
+    public static UserData[] loadData(JsonObject object, LoadContext context) {
+        return loadData(GvizTable.of(object), context);
     }
 
-    private static double getDouble(JsonArray data, int id) {
-        return getData(data, id).getAsDouble();
+    /**
+     * 주어진 {@link GvizTable}에서 {@link UserData} 배열을 생성합니다.
+     *
+     * <p>반복되는 문자열은 {@link LoadContext}를 통해 하나의 개체로 합쳐집니다.
+     *
+     * @param table gviz 응답에서 읽은 {@link GvizTable}입니다.
+     * @param context 데이터를 불러오는 동안 사용할 {@link LoadContext}입니다.
+     * @return {@link UserData} 배열로 변환된 데이터입니다. 형식이 올바르지 않은 행은 제외되므로 배열에 null이 포함되지 않습니다.
+     */
+    public static UserData[] loadData(GvizTable table, LoadContext context) {
+        return context.decodeRows(table.getRowCount(), i -> decodeRow(table, i, context), UserData[]::new);
     }
 
-    private static int getInt(JsonArray data, int id) {
-        return getData(data, id).getAsInt();
+    private static UserData decodeRow(GvizTable table, int i, LoadContext context) {
+        if(!table.hasCells(i)) {
+            context.reject(i, "row has no cells");
+            return null;
+        }
+        String userName = table.getString(i, 9);
+        String bestRecord = table.getString(i, 12);
+        String videoLink = table.getString(i, 13);
+        if(!table.isNumber(i, 10) || !table.isNumber(i, 8) || !table.isNumber(i, 11) || userName == null || bestRecord == null || videoLink == null) {
+            context.reject(i, "missing required cell");
+            return null;
+        }
+        UserData mapData = new UserData();
+        mapData.id = table.getInt(i, 10);
+        mapData.userName = context.intern(userName);
+        mapData.rank = table.getInt(i, 8);
+        mapData.totalPP = table.getDouble(i, 11);
+        mapData.bestRecord = bestRecord;
+        mapData.videoLink = videoLink;
+        return mapData;
     }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.data;
+
+import lombok.*;
+
+/**
+ * 이 클래스는 한 유저의 클리어 통계를 나타냅니다.
+ *
+ * <p>{@link UserStats}는 데이터를 불러올 때 {@link Statistics}에서 모든 {@link ClearData}를 한 번에 집계하여 만들어집니다.
+ *
+ * <p>클리어한 맵의 난이도를 알 수 없는 경우 {@link #getHardestDifficulty()}는 {@code -999}를 반환합니다.
+ *
+ * @author Jongyeol
+ * @see Statistics
+ */
+@Data
+@Setter(AccessLevel.NONE)
+public class UserStats {
+    private int userCode;
+    private int clearCount;
+    private float hardestDifficulty = -999;
+    private double averageAccuracy;
+
+    UserStats(int userCode) {
+        this.userCode = userCode;
+    }
+
+    UserStats(UserStats other) {
+        userCode = other.userCode;
+        clearCount = other.clearCount;
+        hardestDifficulty = other.hardestDifficulty;
+        averageAccuracy = other.averageAccuracy;
+    }
+
+    void add(float difficulty) {
+        clearCount++;
+        hardestDifficulty = Math.max(hardestDifficulty, difficulty);
+    }
+
+    void setAverageAccuracy(double averageAccuracy) {
+        this.averageAccuracy = averageAccuracy;
+    }
+}
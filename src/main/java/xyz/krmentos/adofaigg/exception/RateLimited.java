@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.exception;
+
+import lombok.Getter;
+import xyz.krmentos.adofaigg.setting.DataType;
+
+/**
+ * RateLimited는 요청 수 제한을 넘어 데이터를 받아오지 않았을 때 발생하는 예외 클래스입니다.
+ *
+ * <p>이 예외는 다시 시도하지 않으며, 연속된 실패로 기록되지 않습니다.
+ * 마지막으로 받아온 데이터가 있다면 데이터를 읽는 쪽은 그 데이터를 계속 사용합니다.
+ *
+ * @author Jongyeol
+ */
+@Getter
+public class RateLimited extends RuntimeException {
+    private final DataType type;
+
+    /**
+     * 예외를 생성합니다.
+     *
+     * @param type 받아오지 않은 데이터의 종류입니다.
+     */
+    public RateLimited(DataType type) {
+        super(type + " data request exceeded the rate limit");
+        this.type = type;
+    }
+}
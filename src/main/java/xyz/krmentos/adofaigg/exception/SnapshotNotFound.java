@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.exception;
+
+import xyz.krmentos.adofaigg.LoadManager;
+
+/**
+ * SnapshotNotFound는 지정된 버전이나 시각의 {@link xyz.krmentos.adofaigg.Snapshot}이 보관되어 있지 않을 때 발생하는 예외 클래스입니다.
+ *
+ * <p>{@link LoadManager}는 {@link LoadManager#setHistoryLimit(int, java.time.Duration)}로 설정한 만큼만 이전 {@link xyz.krmentos.adofaigg.Snapshot}을 보관합니다.
+ *
+ * @author Jongyeol
+ */
+public class SnapshotNotFound extends RuntimeException {
+
+    /**
+     * 예외를 생성합니다.
+     *
+     * @param message 찾지 못한 버전이나 시각을 설명하는 메시지입니다.
+     */
+    public SnapshotNotFound(String message) {
+        super(message);
+    }
+}
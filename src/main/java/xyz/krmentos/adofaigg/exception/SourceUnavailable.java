@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.exception;
+
+import lombok.Getter;
+import xyz.krmentos.adofaigg.setting.DataType;
+import xyz.krmentos.adofaigg.setting.RetryPolicy;
+
+/**
+ * SourceUnavailable는 연속된 실패로 데이터를 받아오는 것이 멈춰 있을 때 발생하는 예외 클래스입니다.
+ *
+ * <p>{@link RetryPolicy#getOpenTime()}이 지나기 전에는 데이터 소스에 요청하지 않고 이 예외로 바로 실패합니다.
+ * 마지막으로 발생한 예외는 {@link #getCause()}로 확인할 수 있습니다.
+ *
+ * @author Jongyeol
+ * @see RetryPolicy
+ */
+@Getter
+public class SourceUnavailable extends RuntimeException {
+    private final DataType type;
+    private final long retryTime;
+
+    /**
+     * 예외를 생성합니다.
+     *
+     * @param type 받아오지 못한 데이터의 종류입니다.
+     * @param retryTime 다시 받아올 수 있는 시각(밀리초)입니다.
+     * @param cause 마지막으로 발생한 예외입니다.
+     */
+    public SourceUnavailable(DataType type, long retryTime, Throwable cause) {
+        super(type + " data source is unavailable until " + retryTime, cause);
+        this.type = type;
+        this.retryTime = retryTime;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 이 클래스는 기록된 값의 분포를 저장하는 히스토그램입니다.
+ *
+ * <p>값은 2의 거듭제곱 구간을 8개로 나눈 버킷에 기록되므로, 백분위수는 실제 값보다 최대 12.5% 크게 계산됩니다.
+ * 잠금 없이 기록되므로 여러 스레드에서 동시에 기록할 수 있으며, 기록하는 동안 읽은 값은 서로 조금 어긋날 수 있습니다.
+ *
+ * @author Jongyeol
+ * @see SimpleMetrics
+ */
+public class Histogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 값을 기록합니다.
+     *
+     * @param value 기록할 값입니다. 음수는 {@code 0}으로 기록됩니다.
+     */
+    public void record(long value) {
+        if(value < 0) value = 0;
+        buckets.incrementAndGet(bucketOf(value));
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+        count.incrementAndGet();
+    }
+
+    /**
+     * 기록된 값의 수를 반환합니다.
+     *
+     * @return 기록된 값의 수입니다.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * 기록된 값의 합을 반환합니다.
+     *
+     * @return 기록된 값의 합입니다.
+     */
+    public long getSum() {
+        return sum.get();
+    }
+
+    /**
+     * 기록된 값 중 가장 큰 값을 반환합니다.
+     *
+     * @return 가장 큰 값입니다. 기록된 값이 없을 경우 {@code 0}을 반환합니다.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * 기록된 값의 평균을 반환합니다.
+     *
+     * @return 평균값입니다. 기록된 값이 없을 경우 {@code 0}을 반환합니다.
+     */
+    public double getMean() {
+        long count = this.count.get();
+        return count == 0 ? 0 : (double) sum.get() / count;
+    }
+
+    /**
+     * 지정된 백분위수를 반환합니다.
+     *
+     * @param percentile 백분위수입니다. {@code 50}은 중앙값, {@code 99}는 상위 1%의 경계입니다.
+     * @return 기록된 값의 {@code percentile}%가 이 값보다 작거나 같습니다. 기록된 값이 없을 경우 {@code 0}을 반환합니다.
+     * @throws IllegalArgumentException 백분위수가 0부터 100 사이가 아닐 경우 예외가 발생합니다.
+     */
+    public long getPercentile(double percentile) {
+        if(!(percentile >= 0 && percentile <= 100)) throw new IllegalArgumentException("percentile must be between 0 and 100");
+        long count = this.count.get();
+        if(count == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for(int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if(seen >= target) return i + 1 < BUCKETS ? Math.min(lowerBound(i + 1) - 1, max.get()) : max.get();
+        }
+        return max.get();
+    }
+
+    private static int bucketOf(long value) {
+        if(value < SUB_BUCKETS) return (int) value;
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    private static long lowerBound(int bucket) {
+        if(bucket < SUB_BUCKETS) return bucket;
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        return (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+    }
+}
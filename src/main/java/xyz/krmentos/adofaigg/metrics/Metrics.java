@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.metrics;
+
+import xyz.krmentos.adofaigg.LoadManager;
+import xyz.krmentos.adofaigg.setting.DataType;
+
+/**
+ * 이 인터페이스는 데이터를 받아오고 조회하는 동안 측정된 값을 전달받습니다.
+ *
+ * <p>모든 메소드는 아무것도 하지 않는 기본 구현을 가지므로, 필요한 값만 구현하여 사용하는 지표 라이브러리에 기록할 수 있습니다.
+ * 지표 라이브러리에 의존하지 않고 값을 확인하려면 {@link SimpleMetrics}를 사용할 수 있습니다.
+ *
+ * <p>메소드는 데이터를 받아오거나 쿼리를 실행하는 스레드에서 바로 호출되므로 빠르게 반환되어야 하며, 예외를 발생시키지 않아야 합니다.
+ * 시간은 모두 나노초 단위입니다.
+ *
+ * <p>예시 사용법:
+ * <p>SimpleMetrics metrics = new SimpleMetrics();
+ * <p>adofaiGG.setMetrics(metrics);
+ *
+ * @author Jongyeol
+ * @see LoadManager#setMetrics(Metrics)
+ */
+public interface Metrics {
+    /**
+     * 아무것도 기록하지 않는 {@link Metrics}입니다.
+     */
+    Metrics NONE = new Metrics() {};
+
+    /**
+     * {@link LoadManager#setMetrics(Metrics)}로 설정될 때 호출됩니다.
+     *
+     * <p>데이터가 얼마나 오래되었는지와 같이 필요할 때 읽는 값은 {@link LoadManager#getStaleness(DataType)}로 확인할 수 있습니다.
+     *
+     * @param manager 이 {@link Metrics}를 사용하는 {@link LoadManager}입니다.
+     */
+    default void bind(LoadManager manager) {
+    }
+
+    /**
+     * 데이터 소스에서 응답을 받아왔을 때 호출됩니다.
+     *
+     * @param type 받아온 데이터의 종류입니다.
+     * @param bytes 응답의 크기(바이트)입니다.
+     * @param nanos 요청한 후 응답을 받을 때까지 걸린 시간입니다.
+     */
+    default void recordFetch(DataType type, long bytes, long nanos) {
+    }
+
+    /**
+     * 받아온 응답을 변환했을 때 호출됩니다.
+     *
+     * @param type 변환한 데이터의 종류입니다.
+     * @param acceptedRows 변환된 행의 수입니다.
+     * @param rejectedRows 형식이 올바르지 않아 제외된 행의 수입니다.
+     * @param nanos 응답을 읽고 모든 행을 변환하는 데 걸린 시간입니다.
+     */
+    default void recordParse(DataType type, int acceptedRows, int rejectedRows, long nanos) {
+    }
+
+    /**
+     * 받아온 데이터가 새로운 {@link xyz.krmentos.adofaigg.Snapshot}에 저장되었을 때 호출됩니다.
+     *
+     * <p>한 번 받아올 때 {@link #recordRefreshSuccess(DataType)}와 {@link #recordRefreshFailure(DataType, Throwable)}, {@link #recordThrottled(DataType)} 중
+     * 하나만 한 번 호출됩니다.
+     * 다시 시도한 후 성공한 경우에도 한 번만 호출됩니다.
+     *
+     * @param type 저장된 데이터의 종류입니다.
+     */
+    default void recordRefreshSuccess(DataType type) {
+    }
+
+    /**
+     * 다시 시도한 후에도 데이터를 받아오거나 변환하지 못했을 때 호출됩니다. 한 번 받아올 때 한 번만 호출됩니다.
+     *
+     * <p>받아오는 것이 멈춰 있어 요청하지 않은 경우는 {@link #recordCircuitRejected(DataType)}로만, 요청 수 제한으로 요청하지 않은 경우는
+     * {@link #recordThrottled(DataType)}로만 기록됩니다.
+     *
+     * @param type 받아오지 못한 데이터의 종류입니다.
+     * @param cause 마지막 시도가 실패한 원인입니다.
+     */
+    default void recordRefreshFailure(DataType type, Throwable cause) {
+    }
+
+    /**
+     * 한 번의 시도에서 데이터를 받아오거나 변환하지 못했을 때 호출됩니다. 다시 시도하는 경우 실패한 시도마다 호출됩니다.
+     *
+     * <p>요청 수 제한으로 받아오지 않은 경우는 {@link #recordThrottled(DataType)}로 기록됩니다.
+     *
+     * @param type 받아오지 못한 데이터의 종류입니다.
+     * @param attempt 실패한 시도의 순서입니다. 처음 시도는 {@code 1}입니다.
+     * @param cause 실패한 원인입니다.
+     */
+    default void recordAttemptFailure(DataType type, int attempt, Throwable cause) {
+    }
+
+    /**
+     * 요청 수 제한으로 데이터 소스에 요청하지 않았을 때 호출됩니다.
+     *
+     * @param type 받아오지 않은 데이터의 종류입니다.
+     */
+    default void recordThrottled(DataType type) {
+    }
+
+    /**
+     * 연속된 실패로 받아오는 것이 멈춰 있어 데이터 소스에 요청하지 않고 {@link xyz.krmentos.adofaigg.exception.SourceUnavailable}로 완료했을 때 호출됩니다.
+     *
+     * @param type 받아오지 않은 데이터의 종류입니다.
+     */
+    default void recordCircuitRejected(DataType type) {
+    }
+
+    /**
+     * {@link xyz.krmentos.adofaigg.SnapshotListener}에 전달할 바뀐 내용을 계산하지 못했을 때 호출됩니다. 이 경우 리스너는 호출되지 않습니다.
+     *
+     * @param type 바뀐 데이터의 종류입니다.
+     * @param cause 실패한 원인입니다.
+     */
+    default void recordDiffFailure(DataType type, RuntimeException cause) {
+    }
+
+    /**
+     * {@link xyz.krmentos.adofaigg.SnapshotListener}에서 예외가 발생했을 때 호출됩니다. 다른 리스너는 계속 호출됩니다.
+     *
+     * @param type 바뀐 데이터의 종류입니다.
+     * @param cause 리스너에서 발생한 예외입니다.
+     */
+    default void recordListenerFailure(DataType type, RuntimeException cause) {
+    }
+
+    /**
+     * 쿼리를 실행했을 때 호출됩니다. 데이터를 받아오는 시간은 포함되지 않습니다.
+     *
+     * @param type 조회한 데이터의 종류입니다.
+     * @param query 쿼리의 종류입니다.
+     * @param nanos 쿼리를 실행하는 데 걸린 시간입니다.
+     */
+    default void recordQuery(DataType type, QueryType query, long nanos) {
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.metrics;
+
+/**
+ * 이 열거형은 시간을 측정하는 쿼리의 종류를 나타냅니다.
+ *
+ * @author Jongyeol
+ * @see Metrics#recordQuery(xyz.krmentos.adofaigg.setting.DataType, QueryType, long)
+ */
+public enum QueryType {
+    /**
+     * 조건을 만족하는 데이터의 목록을 찾는 쿼리입니다.
+     */
+    FILTER,
+    /**
+     * 조건을 만족하는 데이터의 수를 세는 쿼리입니다.
+     */
+    COUNT,
+    /**
+     * 조건을 만족하는 데이터가 있는지 확인하는 쿼리입니다.
+     */
+    EXISTS,
+    /**
+     * 조건을 만족하는 데이터의 일부 필드만 읽는 쿼리입니다.
+     */
+    SELECT,
+    /**
+     * 데이터를 필드의 값으로 묶는 쿼리입니다.
+     */
+    GROUP
+}
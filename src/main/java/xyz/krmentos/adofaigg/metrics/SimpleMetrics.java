@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.metrics;
+
+import xyz.krmentos.adofaigg.LoadManager;
+import xyz.krmentos.adofaigg.setting.DataType;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이 클래스는 측정된 값을 메모리에 저장하는 {@link Metrics}입니다.
+ *
+ * <p>다른 라이브러리에 의존하지 않으며, 데이터 종류별 값과 쿼리 종류별 {@link Histogram}을 읽어 직접 확인하거나
+ * 사용하는 지표 시스템으로 주기적으로 내보낼 수 있습니다. 값은 설정된 후부터 누적됩니다.
+ *
+ * <p>예시 사용법:
+ * <p>SimpleMetrics metrics = new SimpleMetrics();
+ * <p>adofaiGG.setMetrics(metrics);
+ * <p>long p99 = metrics.getQueryTime(DataType.CLEAR, QueryType.FILTER).getPercentile(99);
+ *
+ * @author Jongyeol
+ * @see LoadManager#setMetrics(Metrics)
+ */
+public class SimpleMetrics implements Metrics {
+    private final Histogram[] fetchTimes = histograms(DataType.values().length);
+    private final Histogram[] fetchSizes = histograms(DataType.values().length);
+    private final Histogram[] parseTimes = histograms(DataType.values().length);
+    private final LongAdder[] acceptedRows = adders();
+    private final LongAdder[] rejectedRows = adders();
+    private final LongAdder[] successes = adders();
+    private final LongAdder[] failures = adders();
+    private final LongAdder[] attemptFailures = adders();
+    private final LongAdder[] throttled = adders();
+    private final LongAdder[] circuitRejections = adders();
+    private final LongAdder[] diffFailures = adders();
+    private final LongAdder[] listenerFailures = adders();
+    private final Histogram[] queryTimes = histograms(DataType.values().length * QueryType.values().length);
+    private volatile LoadManager manager;
+
+    @Override
+    public void bind(LoadManager manager) {
+        this.manager = manager;
+    }
+
+    @Override
+    public void recordFetch(DataType type, long bytes, long nanos) {
+        fetchTimes[type.ordinal()].record(nanos);
+        fetchSizes[type.ordinal()].record(bytes);
+    }
+
+    @Override
+    public void recordParse(DataType type, int acceptedRows, int rejectedRows, long nanos) {
+        parseTimes[type.ordinal()].record(nanos);
+        this.acceptedRows[type.ordinal()].add(acceptedRows);
+        this.rejectedRows[type.ordinal()].add(rejectedRows);
+    }
+
+    @Override
+    public void recordRefreshSuccess(DataType type) {
+        successes[type.ordinal()].increment();
+    }
+
+    @Override
+    public void recordRefreshFailure(DataType type, Throwable cause) {
+        failures[type.ordinal()].increment();
+    }
+
+    @Override
+    public void recordAttemptFailure(DataType type, int attempt, Throwable cause) {
+        attemptFailures[type.ordinal()].increment();
+    }
+
+    @Override
+    public void recordThrottled(DataType type) {
+        throttled[type.ordinal()].increment();
+    }
+
+    @Override
+    public void recordCircuitRejected(DataType type) {
+        circuitRejections[type.ordinal()].increment();
+    }
+
+    @Override
+    public void recordDiffFailure(DataType type, RuntimeException cause) {
+        diffFailures[type.ordinal()].increment();
+    }
+
+    @Override
+    public void recordListenerFailure(DataType type, RuntimeException cause) {
+        listenerFailures[type.ordinal()].increment();
+    }
+
+    @Override
+    public void recordQuery(DataType type, QueryType query, long nanos) {
+        queryTimes[type.ordinal() * QueryType.values().length + query.ordinal()].record(nanos);
+    }
+
+    /**
+     * 데이터 소스에서 응답을 받아오는 데 걸린 시간(나노초)의 분포를 반환합니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @return 받아오는 데 걸린 시간의 {@link Histogram}입니다.
+     */
+    public Histogram getFetchTime(DataType type) {
+        return fetchTimes[type.ordinal()];
+    }
+
+    /**
+     * 받아온 응답 크기(바이트)의 분포를 반환합니다. {@link Histogram#getSum()}은 받아온 전체 크기입니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @return 응답 크기의 {@link Histogram}입니다.
+     */
+    public Histogram getFetchSize(DataType type) {
+        return fetchSizes[type.ordinal()];
+    }
+
+    /**
+     * 응답을 변환하는 데 걸린 시간(나노초)의 분포를 반환합니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @return 변환하는 데 걸린 시간의 {@link Histogram}입니다.
+     */
+    public Histogram getParseTime(DataType type) {
+        return parseTimes[type.ordinal()];
+    }
+
+    /**
+     * 변환된 행의 수를 반환합니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @return 모든 로드에서 변환된 행의 수의 합입니다.
+     */
+    public long getAcceptedRows(DataType type) {
+        return acceptedRows[type.ordinal()].sum();
+    }
+
+    /**
+     * 형식이 올바르지 않아 제외된 행의 수를 반환합니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @return 모든 로드에서 제외된 행의 수의 합입니다.
+     */
+    public long getRejectedRows(DataType type) {
+        return rejectedRows[type.ordinal()].sum();
+    }
+
+    /**
+     * 데이터를 받아와 저장한 횟수를 반환합니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @return 성공한 횟수입니다.
+     */
+    public long getRefreshSuccesses(DataType type) {
+        return successes[type.ordinal()].sum();
+    }
+
+    /**
+     * 다시 시도한 후에도 데이터를 받아오지 못한 횟수를 반환합니다. 다시 시도한 경우에도 한 번만 세어집니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @return 실패한 횟수입니다.
+     */
+    public long getRefreshFailures(DataType type) {
+        return failures[type.ordinal()].sum();
+    }
+
+    /**
+     * 데이터를 받아오지 못한 시도의 수를 반환합니다. 요청 수 제한으로 받아오지 않은 경우는 포함되지 않습니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @return 실패한 시도의 수입니다.
+     */
+    public long getAttemptFailures(DataType type) {
+        return attemptFailures[type.ordinal()].sum();
+    }
+
+    /**
+     * 요청 수 제한으로 데이터 소스에 요청하지 않은 횟수를 반환합니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @return 요청하지 않은 횟수입니다.
+     */
+    public long getThrottled(DataType type) {
+        return throttled[type.ordinal()].sum();
+    }
+
+    /**
+     * 받아오는 것이 멈춰 있어 데이터 소스에 요청하지 않은 횟수를 반환합니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @return 요청하지 않은 횟수입니다.
+     */
+    public long getCircuitRejections(DataType type) {
+        return circuitRejections[type.ordinal()].sum();
+    }
+
+    /**
+     * 리스너에 전달할 바뀐 내용을 계산하지 못한 횟수를 반환합니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @return 계산하지 못한 횟수입니다.
+     */
+    public long getDiffFailures(DataType type) {
+        return diffFailures[type.ordinal()].sum();
+    }
+
+    /**
+     * 리스너에서 예외가 발생한 횟수를 반환합니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @return 예외가 발생한 횟수입니다.
+     */
+    public long getListenerFailures(DataType type) {
+        return listenerFailures[type.ordinal()].sum();
+    }
+
+    /**
+     * 쿼리를 실행하는 데 걸린 시간(나노초)의 분포를 반환합니다.
+     *
+     * @param type 조회한 데이터의 종류입니다.
+     * @param query 쿼리의 종류입니다.
+     * @return 쿼리를 실행하는 데 걸린 시간의 {@link Histogram}입니다.
+     */
+    public Histogram getQueryTime(DataType type, QueryType query) {
+        return queryTimes[type.ordinal() * QueryType.values().length + query.ordinal()];
+    }
+
+    /**
+     * 지정된 데이터를 마지막으로 받아온 후 지난 시간을 반환합니다.
+     *
+     * @see LoadManager#getStaleness(DataType)
+     * @param type 데이터의 종류입니다.
+     * @return 지난 시간(밀리초)입니다. 받아온 적이 없거나 설정된 {@link LoadManager}가 없을 경우 {@code -1}을 반환합니다.
+     */
+    public long getSnapshotAge(DataType type) {
+        LoadManager manager = this.manager;
+        return manager == null ? -1 : manager.getStaleness(type);
+    }
+
+    private static Histogram[] histograms(int length) {
+        Histogram[] histograms = new Histogram[length];
+        for(int i = 0; i < length; i++) histograms[i] = new Histogram();
+        return histograms;
+    }
+
+    private static LongAdder[] adders() {
+        LongAdder[] adders = new LongAdder[DataType.values().length];
+        for(int i = 0; i < adders.length; i++) adders[i] = new LongAdder();
+        return adders;
+    }
+}
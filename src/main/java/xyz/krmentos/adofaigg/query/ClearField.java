@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.query;
+
+import xyz.krmentos.adofaigg.data.ClearData;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * {@link ClearData}의 숫자 필드를 정의한 열거형입니다.
+ *
+ * <p>{@link ClearGroupBy}에서 그룹의 기준이나 집계할 값을 지정할 때 사용합니다.
+ *
+ * @author Jongyeol
+ * @see ClearGroupBy
+ */
+public enum ClearField {
+    /**
+     * 클리어 데이터의 ID입니다.
+     */
+    ID(ClearData::getId),
+    /**
+     * 클리어 시간(epoch 밀리초)입니다.
+     */
+    TIME(ClearData::getTimeStampMillis),
+    /**
+     * 사용자 코드입니다.
+     */
+    USER_CODE(ClearData::getUserCode),
+    /**
+     * 맵 ID입니다.
+     */
+    MAP_ID(ClearData::getMapId),
+    /**
+     * 난이도 보정값입니다.
+     */
+    RA(ClearData::getRa),
+    /**
+     * 정확도입니다.
+     */
+    ACCURACY(ClearData::getAccuracy),
+    /**
+     * 속도입니다.
+     */
+    SPEED(ClearData::getSpeed),
+    /**
+     * 절대 정확도입니다.
+     */
+    X_ACCURACY(ClearData::getXAccuracy),
+    /**
+     * PP입니다.
+     */
+    PLAY_POINT(ClearData::getPlayPoint),
+    /**
+     * LocalRank입니다.
+     */
+    LOCAL_RANK(ClearData::getLocalRank),
+    /**
+     * SongRank입니다.
+     */
+    SONG_RANK(ClearData::getSongRank),
+    /**
+     * TotalRank입니다.
+     */
+    TOTAL_RANK(ClearData::getTotalRank),
+    /**
+     * 가중치가 적용된 PP입니다.
+     */
+    WEIGHTED(ClearData::getWeighted),
+    /**
+     * 체감 난이도입니다.
+     */
+    FEELING(ClearData::getFeeling);
+
+    private final ToDoubleFunction<ClearData> getter;
+
+    ClearField(ToDoubleFunction<ClearData> getter) {
+        this.getter = getter;
+    }
+
+    /**
+     * 클리어 데이터에서 이 필드의 값을 반환합니다.
+     *
+     * @param clear 값을 가져올 클리어 데이터입니다.
+     * @return 필드의 값입니다.
+     */
+    public double getValue(ClearData clear) {
+        return getter.applyAsDouble(clear);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.query;
+
+import xyz.krmentos.adofaigg.data.ClearData;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 클래스는 {@link ClearData}를 지정된 {@link ClearField}로 묶어 집계하기 위한 클래스입니다.
+ *
+ * <p>생성할 때 한 번만 데이터를 탐색하여 각 데이터가 속한 그룹을 기록하고,
+ * {@link #count()}, {@link #sum(ClearField)}, {@link #avg(ClearField)}, {@link #min(ClearField)}, {@link #max(ClearField)}는
+ * 기본형 배열만 사용하여 결과를 계산합니다. 계산된 결과는 개체 안에 저장되어 다시 계산하지 않습니다.
+ *
+ * <p>예시 사용법:
+ * <p>GroupResult clearCount = adofaiGG.groupClearsBy(ClearField.MAP_ID).count();
+ *
+ * @author Jongyeol
+ * @see ClearField
+ * @see GroupResult
+ */
+public class ClearGroupBy {
+    private final ClearData[] clears;
+    private final int[] rows;
+    private final int[] slots;
+    private final long[] keys;
+    private final Map<String, GroupResult> results = new ConcurrentHashMap<>();
+
+    /**
+     * 지정된 필드의 값으로 클리어 데이터를 묶습니다.
+     *
+     * @param index 클리어 데이터 색인입니다.
+     * @param key 그룹의 기준이 되는 필드입니다.
+     */
+    public ClearGroupBy(ClearIndex index, ClearField key) {
+        this(index, key, 1, null);
+    }
+
+    /**
+     * 지정된 필드의 값을 주어진 간격으로 나눈 구간으로 클리어 데이터를 묶습니다.
+     *
+     * <p>그룹 키는 {@code floor(값 / bucketWidth)}이며, PP 분포와 같은 히스토그램을 만들 때 사용합니다.
+     * 키는 {@code long}으로 저장되므로 {@link ClearField#TIME}과 같이 밀리초 단위의 시각도 간격 1로 묶을 수 있습니다.
+     *
+     * @param index 클리어 데이터 색인입니다.
+     * @param key 그룹의 기준이 되는 필드입니다.
+     * @param bucketWidth 구간의 간격입니다.
+     * @param filter 집계할 데이터의 조건입니다. null일 경우 모든 데이터를 집계합니다.
+     * @throws IllegalArgumentException 간격이 0보다 작거나 같을 경우 예외가 발생합니다.
+     */
+    public ClearGroupBy(ClearIndex index, ClearField key, double bucketWidth, ClearQuery filter) {
+        if(!(bucketWidth > 0)) throw new IllegalArgumentException("bucketWidth must be greater than 0");
+        clears = index.getClears();
+        int[] candidates = filter == null ? null : filter.findCandidates(index);
+        int length = candidates == null ? clears.length : candidates.length;
+        int[] rows = new int[length];
+        long[] rowKeys = new long[length];
+        int size = 0;
+        for(int i = 0; i < length; i++) {
+            int row = candidates == null ? i : candidates[i];
+            ClearData clear = clears[row];
+            if(filter != null && !filter.matches(clear)) continue;
+            rows[size] = row;
+            rowKeys[size++] = (long) Math.floor(key.getValue(clear) / bucketWidth);
+        }
+        this.rows = Arrays.copyOf(rows, size);
+        long[] sorted = Arrays.copyOf(rowKeys, size);
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for(int i = 0; i < size; i++) if(i == 0 || sorted[i] != sorted[i - 1]) sorted[distinct++] = sorted[i];
+        keys = Arrays.copyOf(sorted, distinct);
+        slots = new int[size];
+        for(int i = 0; i < size; i++) slots[i] = Arrays.binarySearch(keys, rowKeys[i]);
+    }
+
+    /**
+     * 그룹별 클리어 데이터의 수를 반환합니다.
+     *
+     * @return 그룹별 데이터 수입니다.
+     */
+    public GroupResult count() {
+        return results.computeIfAbsent("COUNT", k -> {
+            double[] values = new double[keys.length];
+            for(int slot : slots) values[slot]++;
+            return new GroupResult(keys, values);
+        });
+    }
+
+    /**
+     * 그룹별 지정된 필드의 합계를 반환합니다.
+     *
+     * @param field 집계할 필드입니다.
+     * @return 그룹별 합계입니다.
+     */
+    public GroupResult sum(ClearField field) {
+        return results.computeIfAbsent("SUM:" + field, k -> {
+            double[] values = new double[keys.length];
+            for(int i = 0; i < rows.length; i++) values[slots[i]] += field.getValue(clears[rows[i]]);
+            return new GroupResult(keys, values);
+        });
+    }
+
+    /**
+     * 그룹별 지정된 필드의 평균을 반환합니다.
+     *
+     * @param field 집계할 필드입니다.
+     * @return 그룹별 평균입니다.
+     */
+    public GroupResult avg(ClearField field) {
+        GroupResult sum = sum(field);
+        GroupResult count = count();
+        return results.computeIfAbsent("AVG:" + field, k -> {
+            double[] values = new double[keys.length];
+            for(int i = 0; i < keys.length; i++) values[i] = sum.getValue(i) / count.getValue(i);
+            return new GroupResult(keys, values);
+        });
+    }
+
+    /**
+     * 그룹별 지정된 필드의 최소값을 반환합니다.
+     *
+     * @param field 집계할 필드입니다.
+     * @return 그룹별 최소값입니다.
+     */
+    public GroupResult min(ClearField field) {
+        return results.computeIfAbsent("MIN:" + field, k -> {
+            double[] values = new double[keys.length];
+            Arrays.fill(values, Double.POSITIVE_INFINITY);
+            for(int i = 0; i < rows.length; i++) values[slots[i]] = Math.min(values[slots[i]], field.getValue(clears[rows[i]]));
+            return new GroupResult(keys, values);
+        });
+    }
+
+    /**
+     * 그룹별 지정된 필드의 최대값을 반환합니다.
+     *
+     * @param field 집계할 필드입니다.
+     * @return 그룹별 최대값입니다.
+     */
+    public GroupResult max(ClearField field) {
+        return results.computeIfAbsent("MAX:" + field, k -> {
+            double[] values = new double[keys.length];
+            Arrays.fill(values, Double.NEGATIVE_INFINITY);
+            for(int i = 0; i < rows.length; i++) values[slots[i]] = Math.max(values[slots[i]], field.getValue(clears[rows[i]]));
+            return new GroupResult(keys, values);
+        });
+    }
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.query;
+
+import lombok.Getter;
+import xyz.krmentos.adofaigg.data.ClearData;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+/**
+ * 이 클래스는 {@link ClearData} 배열에 대한 색인입니다.
+ *
+ * <p>클리어 데이터 ID, 맵 ID와 사용자 코드별로 클리어 데이터의 위치를 미리 저장하여, {@link ClearQuery}가 전체 배열을 탐색하지 않고 결과를 얻을 수 있도록 합니다.
+ * 클리어 시간 순으로 정렬된 색인도 함께 저장하여, 시간 범위 검색은 이진 탐색으로 처리합니다.
+ *
+ * <p>색인은 생성될 때의 배열을 함께 보관하므로 배열과 색인이 서로 어긋나지 않습니다.
+ *
+ * <p>클리어 데이터가 뒤에 추가되기만 한 경우 {@link #append(ClearData[])}로 추가된 데이터만 반영한 색인을 만들 수 있습니다.
+ * 새 색인은 바뀌지 않은 구조를 이전 색인과 공유하므로, 이전 색인을 사용 중인 스레드는 영향을 받지 않습니다.
+ *
+ * @author Jongyeol
+ * @see ClearQuery
+ */
+public class ClearIndex {
+    private static final int[] EMPTY = new int[0];
+    @Getter
+    private final ClearData[] clears;
+    private final IdIndex byId;
+    private final GroupTable byMapId;
+    private final GroupTable byUserCode;
+    private final long[] times;
+    private final int[] byTime;
+    private final int timeSize;
+    private final AtomicInteger timeUsed;
+
+    /**
+     * 주어진 클리어 데이터 배열로 색인을 생성합니다.
+     *
+     * @param clears 색인을 생성할 클리어 데이터 배열입니다.
+     */
+    public ClearIndex(ClearData... clears) {
+        this.clears = clears;
+        byId = IdIndex.of(clears, ClearData::getId);
+        byMapId = group(clears, ClearData::getMapId);
+        byUserCode = group(clears, ClearData::getUserCode);
+        int size = 0;
+        boolean sorted = true;
+        int[] byTime = new int[clears.length];
+        for(int i = 0; i < clears.length; i++) {
+            if(clears[i].getTimeStampMillis() < 0) continue;
+            if(size > 0 && clears[byTime[size - 1]].getTimeStampMillis() > clears[i].getTimeStampMillis()) sorted = false;
+            byTime[size++] = i;
+        }
+        if(!sorted) {
+            byTime = Arrays.stream(byTime, 0, size).boxed()
+                .sorted(Comparator.comparingLong(i -> clears[i].getTimeStampMillis()))
+                .mapToInt(Integer::intValue).toArray();
+        }
+        this.byTime = size == byTime.length ? byTime : Arrays.copyOf(byTime, size);
+        times = new long[size];
+        for(int i = 0; i < size; i++) times[i] = clears[this.byTime[i]].getTimeStampMillis();
+        timeSize = size;
+        timeUsed = new AtomicInteger(size);
+    }
+
+    private ClearIndex(ClearData[] clears, IdIndex byId, GroupTable byMapId, GroupTable byUserCode,
+                       long[] times, int[] byTime, int timeSize, AtomicInteger timeUsed) {
+        this.clears = clears;
+        this.byId = byId;
+        this.byMapId = byMapId;
+        this.byUserCode = byUserCode;
+        this.times = times;
+        this.byTime = byTime;
+        this.timeSize = timeSize;
+        this.timeUsed = timeUsed;
+    }
+
+    /**
+     * 이 색인의 배열 뒤에 클리어 데이터가 추가된 배열의 색인을 생성합니다. 이 색인은 바뀌지 않습니다.
+     *
+     * <p>각 색인은 이 색인과 같은 배열을 공유하며, 추가된 위치는 배열의 남은 공간에 이어서 기록합니다.
+     * 이 색인은 자신의 길이까지만 읽으므로 뒤에 기록된 위치의 영향을 받지 않습니다.
+     * 맵과 사용자별 목록은 추가된 데이터가 속한 목록과 그 목록에 이르는 표의 노드만 복사하므로,
+     * 걸리는 시간은 전체 데이터나 맵, 사용자의 수가 아닌 추가된 데이터의 수에 비례합니다.
+     * 다만 추가된 ID가 기존 ID보다 작을 경우 ID 색인을 새로 생성하며, 추가된 시간이 기존 시간보다 앞설 경우
+     * 추가된 데이터만 정렬하여 시간 순 색인과 병합하므로 이 두 경우에는 전체 데이터의 수에 비례하는 시간이 걸립니다.
+     *
+     * @param clears 색인을 생성할 클리어 데이터 배열입니다. 앞부분은 {@link #getClears()}와 같은 데이터여야 합니다.
+     * @return 생성된 {@link ClearIndex}입니다.
+     * @throws IllegalArgumentException 배열이 {@link #getClears()}보다 짧을 경우 예외가 발생합니다.
+     */
+    public ClearIndex append(ClearData[] clears) {
+        int from = this.clears.length;
+        if(clears.length < from) throw new IllegalArgumentException("clears must not be shorter than the indexed clears");
+        IdIndex byId = this.byId.append(clears, from, ClearData::getId);
+        GroupTable byMapId = appendGroup(this.byMapId, clears, from, ClearData::getMapId);
+        GroupTable byUserCode = appendGroup(this.byUserCode, clears, from, ClearData::getUserCode);
+
+        int added = 0;
+        boolean sorted = true;
+        long last = timeSize == 0 ? Long.MIN_VALUE : times[timeSize - 1];
+        for(int i = from; i < clears.length; i++) {
+            long time = clears[i].getTimeStampMillis();
+            if(time < 0) continue;
+            if(time < last) sorted = false;
+            last = time;
+            added++;
+        }
+        if(!sorted) return mergeTimes(clears, from, added, byId, byMapId, byUserCode);
+        int newSize = timeSize + added;
+        long[] times = this.times;
+        int[] byTime = this.byTime;
+        AtomicInteger timeUsed = this.timeUsed;
+        if(times.length < newSize || !timeUsed.compareAndSet(timeSize, newSize)) {
+            int capacity = Math.max(newSize, timeSize + (timeSize >> 1));
+            times = Arrays.copyOf(times, capacity);
+            byTime = Arrays.copyOf(byTime, capacity);
+            timeUsed = new AtomicInteger(newSize);
+        }
+        int size = timeSize;
+        for(int i = from; i < clears.length; i++) {
+            long time = clears[i].getTimeStampMillis();
+            if(time < 0) continue;
+            times[size] = time;
+            byTime[size++] = i;
+        }
+        return new ClearIndex(clears, byId, byMapId, byUserCode, times, byTime, newSize, timeUsed);
+    }
+
+    /**
+     * 추가된 시간이 기존 시간보다 앞설 경우, 추가된 데이터만 정렬하여 시간 순 색인과 병합합니다.
+     */
+    private ClearIndex mergeTimes(ClearData[] clears, int from, int added, IdIndex byId, GroupTable byMapId, GroupTable byUserCode) {
+        Integer[] order = new Integer[added];
+        int count = 0;
+        for(int i = from; i < clears.length; i++) if(clears[i].getTimeStampMillis() >= 0) order[count++] = i;
+        Arrays.sort(order, Comparator.comparingLong(i -> clears[i].getTimeStampMillis()));
+        int newSize = timeSize + added;
+        long[] times = new long[newSize + (newSize >> 1)];
+        int[] byTime = new int[times.length];
+        int i = 0, j = 0, size = 0;
+        while(i < timeSize || j < added) {
+            if(j == added || (i < timeSize && this.times[i] <= clears[order[j]].getTimeStampMillis())) {
+                times[size] = this.times[i];
+                byTime[size++] = this.byTime[i++];
+            } else {
+                times[size] = clears[order[j]].getTimeStampMillis();
+                byTime[size++] = order[j++];
+            }
+        }
+        return new ClearIndex(clears, byId, byMapId, byUserCode, times, byTime, newSize, new AtomicInteger(newSize));
+    }
+
+    /**
+     * 지정된 ID를 가진 클리어 데이터를 반환합니다.
+     *
+     * @param id 검색할 클리어 데이터의 ID입니다.
+     * @return 지정된 ID의 클리어 데이터입니다. 존재하지 않을 경우 null을 반환합니다.
+     */
+    public ClearData getById(int id) {
+        int index = byId.indexOf(id);
+        return index == -1 ? null : clears[index];
+    }
+
+    /**
+     * 지정된 맵 ID를 가진 클리어 데이터의 위치를 오름차순으로 반환합니다.
+     *
+     * @param mapId 검색할 맵 ID입니다.
+     * @return {@link #getClears()} 배열에서의 위치 배열입니다. 반환된 배열은 수정해서는 안 됩니다.
+     */
+    public int[] getByMapId(int mapId) {
+        Group group = byMapId.get(mapId);
+        return group == null ? EMPTY : group.toArray();
+    }
+
+    /**
+     * 지정된 사용자 코드를 가진 클리어 데이터의 위치를 오름차순으로 반환합니다.
+     *
+     * @param userCode 검색할 사용자 코드입니다.
+     * @return {@link #getClears()} 배열에서의 위치 배열입니다. 반환된 배열은 수정해서는 안 됩니다.
+     */
+    public int[] getByUserCode(int userCode) {
+        Group group = byUserCode.get(userCode);
+        return group == null ? EMPTY : group.toArray();
+    }
+
+    /**
+     * 클리어 시간이 지정된 범위 안에 있는 클리어 데이터의 위치를 오름차순으로 반환합니다.
+     *
+     * <p>시간 순으로 정렬된 색인에서 이진 탐색으로 범위를 찾으므로, 범위 밖의 데이터는 확인하지 않습니다.
+     *
+     * @param from 범위의 시작 시간(epoch 밀리초, 포함)입니다.
+     * @param to 범위의 끝 시간(epoch 밀리초, 포함)입니다.
+     * @return {@link #getClears()} 배열에서의 위치 배열입니다.
+     */
+    public int[] getByTimeRange(long from, long to) {
+        if(from > to) return EMPTY;
+        int start = lowerBound(from);
+        int end = to == Long.MAX_VALUE ? timeSize : lowerBound(to + 1);
+        int[] result = Arrays.copyOfRange(byTime, start, end);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private int lowerBound(long time) {
+        int low = 0, high = timeSize;
+        while(low < high) {
+            int middle = (low + high) >>> 1;
+            if(times[middle] < time) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+
+    /**
+     * 오름차순으로 정렬된 두 위치 배열의 교집합을 반환합니다. {@code null}은 모든 위치를 의미합니다.
+     */
+    static int[] intersect(int[] a, int[] b) {
+        if(a == null) return b;
+        if(b == null) return a;
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, size = 0;
+        while(i < a.length && j < b.length) {
+            if(a[i] < b[j]) i++;
+            else if(a[i] > b[j]) j++;
+            else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * 오름차순으로 정렬된 두 위치 배열의 합집합을 반환합니다.
+     */
+    static int[] union(int[] a, int[] b) {
+        int[] result = new int[a.length + b.length];
+        int i = 0, j = 0, size = 0;
+        while(i < a.length || j < b.length) {
+            if(j == b.length || (i < a.length && a[i] < b[j])) result[size++] = a[i++];
+            else if(i == a.length || a[i] > b[j]) result[size++] = b[j++];
+            else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * 추가된 데이터가 속한 목록에만 위치를 이어서 기록하고, 나머지 목록은 이전 색인과 공유합니다.
+     */
+    private static GroupTable appendGroup(GroupTable table, ClearData[] clears, int from, ToIntFunction<ClearData> key) {
+        if(from == clears.length) return table;
+        Map<Integer, int[]> positions = positions(clears, from, key);
+        int[] keys = new int[positions.size()];
+        Group[] groups = new Group[keys.length];
+        int size = 0;
+        for(Map.Entry<Integer, int[]> entry : positions.entrySet()) {
+            Group previous = table.get(entry.getKey());
+            keys[size] = entry.getKey();
+            groups[size++] = previous == null ? new Group(entry.getValue()) : previous.append(entry.getValue());
+        }
+        return table.with(keys, groups);
+    }
+
+    private static GroupTable group(ClearData[] clears, ToIntFunction<ClearData> key) {
+        return appendGroup(GroupTable.EMPTY, clears, 0, key);
+    }
+
+    /**
+     * 지정된 위치부터의 클리어 데이터를 키별로 묶어, 키마다 오름차순 위치 배열을 만듭니다.
+     */
+    private static Map<Integer, int[]> positions(ClearData[] clears, int from, ToIntFunction<ClearData> key) {
+        Map<Integer, int[]> counts = new HashMap<>();
+        for(int i = from; i < clears.length; i++) counts.computeIfAbsent(key.applyAsInt(clears[i]), k -> new int[1])[0]++;
+        Map<Integer, int[]> positions = new HashMap<>(counts.size() * 2);
+        for(Map.Entry<Integer, int[]> entry : counts.entrySet()) {
+            positions.put(entry.getKey(), new int[entry.getValue()[0]]);
+            entry.getValue()[0] = 0;
+        }
+        for(int i = from; i < clears.length; i++) {
+            int k = key.applyAsInt(clears[i]);
+            positions.get(k)[counts.get(k)[0]++] = i;
+        }
+        return positions;
+    }
+
+    /**
+     * 키별 {@link Group}을 저장하는 바뀌지 않는 표입니다.
+     *
+     * <p>키의 비트를 5비트씩 나누어 32칸짜리 노드를 따라가는 트라이이며, {@link #with(int[], Group[])}는 바뀐 키가 지나는 노드만 복사하고
+     * 나머지 노드는 이전 표와 공유합니다. 따라서 추가하는 데 걸리는 시간은 전체 키의 수가 아닌 바뀐 키의 수에 비례합니다.
+     * 키는 부호 없는 정수로 다루며, 트라이의 깊이는 가장 큰 키에 맞춰 늘어납니다.
+     */
+    private static final class GroupTable {
+        private static final int BITS = 5;
+        private static final int WIDTH = 1 << BITS;
+        private static final int MASK = WIDTH - 1;
+        private static final GroupTable EMPTY = new GroupTable(new Object[WIDTH], 0);
+        private final Object[] root;
+        private final int shift;
+
+        private GroupTable(Object[] root, int shift) {
+            this.root = root;
+            this.shift = shift;
+        }
+
+        private Group get(int key) {
+            if(!fits(key, shift)) return null;
+            Object[] node = root;
+            for(int level = shift; level > 0; level -= BITS) {
+                node = (Object[]) node[key >>> level & MASK];
+                if(node == null) return null;
+            }
+            return (Group) node[key & MASK];
+        }
+
+        /**
+         * 주어진 키의 {@link Group}을 바꾼 새 표를 만듭니다. 이 표는 바뀌지 않습니다.
+         */
+        private GroupTable with(int[] keys, Group[] groups) {
+            int shift = this.shift;
+            Object[] root = this.root;
+            Set<Object[]> copied = Collections.newSetFromMap(new IdentityHashMap<>());
+            for(int key : keys) {
+                while(!fits(key, shift)) {
+                    Object[] parent = new Object[WIDTH];
+                    parent[0] = root;
+                    root = parent;
+                    copied.add(root);
+                    shift += BITS;
+                }
+            }
+            if(!copied.contains(root)) {
+                root = root.clone();
+                copied.add(root);
+            }
+            for(int i = 0; i < keys.length; i++) {
+                Object[] node = root;
+                for(int level = shift; level > 0; level -= BITS) {
+                    int index = keys[i] >>> level & MASK;
+                    Object[] child = (Object[]) node[index];
+                    if(child == null) child = new Object[WIDTH];
+                    else if(!copied.contains(child)) child = child.clone();
+                    else {
+                        node = child;
+                        continue;
+                    }
+                    copied.add(child);
+                    node[index] = child;
+                    node = child;
+                }
+                node[keys[i] & MASK] = groups[i];
+            }
+            return new GroupTable(root, shift);
+        }
+
+        private static boolean fits(int key, int shift) {
+            return shift + BITS >= Integer.SIZE || key >>> (shift + BITS) == 0;
+        }
+    }
+
+    /**
+     * 같은 키를 가진 클리어 데이터의 위치 목록입니다.
+     *
+     * <p>배열의 앞 {@code size}개만 이 목록에 속하며, 남은 공간은 이 목록에 이어서 추가한 다음 목록이 사용합니다.
+     * 남은 공간은 한 번만 사용할 수 있도록 {@code used}로 기록합니다.
+     */
+    private static final class Group {
+        private final int[] positions;
+        private final int size;
+        private final AtomicInteger used;
+        private volatile int[] trimmed;
+
+        private Group(int[] positions) {
+            this(positions, positions.length, new AtomicInteger(positions.length));
+        }
+
+        private Group(int[] positions, int size, AtomicInteger used) {
+            this.positions = positions;
+            this.size = size;
+            this.used = used;
+        }
+
+        private Group append(int[] added) {
+            int newSize = size + added.length;
+            int[] positions = this.positions;
+            AtomicInteger used = this.used;
+            if(positions.length < newSize || !used.compareAndSet(size, newSize)) {
+                positions = Arrays.copyOf(positions, Math.max(newSize, size + (size >> 1)));
+                used = new AtomicInteger(newSize);
+            }
+            System.arraycopy(added, 0, positions, size, added.length);
+            return new Group(positions, newSize, used);
+        }
+
+        /**
+         * 이 목록의 위치 배열을 반환합니다. 배열에 남은 공간이 있을 경우 처음 호출될 때 한 번만 잘라서 저장합니다.
+         */
+        private int[] toArray() {
+            if(size == positions.length) return positions;
+            int[] trimmed = this.trimmed;
+            if(trimmed == null) this.trimmed = trimmed = Arrays.copyOf(positions, size);
+            return trimmed;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.query;
+
+import xyz.krmentos.adofaigg.data.ClearData;
+
+import java.util.Arrays;
+
+/**
+ * 이 클래스는 {@link ClearQuery#select(ClearIndex, ClearField...)}로 선택한 클리어 데이터의 필드 값을 나타냅니다.
+ *
+ * <p>선택한 필드마다 기본형 배열 하나에 값을 저장하므로, 결과 한 행은 선택한 필드 수만큼의 기본형 값만 차지합니다.
+ * 값은 위치와 필드로 직접 읽거나, 하나의 {@link Cursor}를 움직이며 읽을 수 있습니다.
+ *
+ * <p>예시 사용법:
+ * <p>ClearProjection result = query.select(index, ClearField.ID, ClearField.PLAY_POINT);
+ * <p>for(int i = 0; i &lt; result.size(); i++) result.getInt(i, ClearField.ID);
+ *
+ * @author Jongyeol
+ * @see ClearQuery
+ * @see ClearField
+ */
+public class ClearProjection {
+    private final ClearField[] fields;
+    private final double[][] columns;
+    private final int size;
+
+    ClearProjection(ClearData[] clears, int[] rows, int size, ClearField[] fields) {
+        this.fields = fields.clone();
+        this.size = size;
+        columns = new double[fields.length][size];
+        for(int f = 0; f < fields.length; f++) {
+            ClearField field = fields[f];
+            double[] column = columns[f];
+            for(int i = 0; i < size; i++) column[i] = field.getValue(clears[rows[i]]);
+        }
+    }
+
+    /**
+     * 결과의 행 수를 반환합니다.
+     *
+     * @return 결과의 행 수입니다.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 선택한 필드 목록을 반환합니다.
+     *
+     * @return 선택한 필드 배열의 복사본입니다.
+     */
+    public ClearField[] getFields() {
+        return fields.clone();
+    }
+
+    /**
+     * 지정된 위치와 필드의 값을 반환합니다.
+     *
+     * @param row 행의 위치입니다.
+     * @param field 값을 가져올 필드입니다.
+     * @return 필드의 값입니다.
+     * @throws IllegalArgumentException 선택하지 않은 필드일 경우 예외가 발생합니다.
+     */
+    public double getDouble(int row, ClearField field) {
+        return columns[column(field)][row];
+    }
+
+    /**
+     * 지정된 위치와 필드의 값을 정수로 반환합니다.
+     *
+     * @param row 행의 위치입니다.
+     * @param field 값을 가져올 필드입니다.
+     * @return 필드의 값입니다.
+     * @throws IllegalArgumentException 선택하지 않은 필드일 경우 예외가 발생합니다.
+     */
+    public int getInt(int row, ClearField field) {
+        return (int) getDouble(row, field);
+    }
+
+    /**
+     * 지정된 위치와 필드의 값을 long으로 반환합니다. {@link ClearField#TIME}을 읽을 때 사용합니다.
+     *
+     * @param row 행의 위치입니다.
+     * @param field 값을 가져올 필드입니다.
+     * @return 필드의 값입니다.
+     * @throws IllegalArgumentException 선택하지 않은 필드일 경우 예외가 발생합니다.
+     */
+    public long getLong(int row, ClearField field) {
+        return (long) getDouble(row, field);
+    }
+
+    /**
+     * 지정된 필드의 모든 값을 반환합니다.
+     *
+     * @param field 값을 가져올 필드입니다.
+     * @return 필드 값 배열의 복사본입니다.
+     * @throws IllegalArgumentException 선택하지 않은 필드일 경우 예외가 발생합니다.
+     */
+    public double[] getColumn(ClearField field) {
+        return Arrays.copyOf(columns[column(field)], size);
+    }
+
+    /**
+     * 결과를 처음부터 읽는 {@link Cursor}를 반환합니다.
+     *
+     * @return 첫 행 이전을 가리키는 커서입니다.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    private int column(ClearField field) {
+        for(int i = 0; i < fields.length; i++) if(fields[i] == field) return i;
+        throw new IllegalArgumentException("Field " + field + " is not selected");
+    }
+
+    /**
+     * 이 클래스는 {@link ClearProjection}의 행을 차례대로 읽는 커서입니다.
+     *
+     * <p>행마다 개체를 만들지 않고 하나의 커서가 현재 위치만 바꿉니다.
+     */
+    public class Cursor {
+        private int row = -1;
+
+        private Cursor() {
+        }
+
+        /**
+         * 다음 행으로 이동합니다.
+         *
+         * @return 다음 행이 있을 경우 {@code true}를 반환합니다.
+         */
+        public boolean next() {
+            if(row + 1 >= size) return false;
+            row++;
+            return true;
+        }
+
+        /**
+         * 현재 행의 위치를 반환합니다.
+         *
+         * @return 현재 행의 위치입니다.
+         */
+        public int getRow() {
+            return row;
+        }
+
+        /**
+         * 현재 행에서 지정된 필드의 값을 반환합니다.
+         *
+         * @param field 값을 가져올 필드입니다.
+         * @return 필드의 값입니다.
+         */
+        public double getDouble(ClearField field) {
+            return ClearProjection.this.getDouble(row, field);
+        }
+
+        /**
+         * 현재 행에서 지정된 필드의 값을 정수로 반환합니다.
+         *
+         * @param field 값을 가져올 필드입니다.
+         * @return 필드의 값입니다.
+         */
+        public int getInt(ClearField field) {
+            return ClearProjection.this.getInt(row, field);
+        }
+
+        /**
+         * 현재 행에서 지정된 필드의 값을 long으로 반환합니다.
+         *
+         * @param field 값을 가져올 필드입니다.
+         * @return 필드의 값입니다.
+         */
+        public long getLong(ClearField field) {
+            return ClearProjection.this.getLong(row, field);
+        }
+    }
+}
@@ -30,7 +30,9 @@ package xyz.krmentos.adofaigg.query;
 
 import xyz.krmentos.adofaigg.data.ClearData;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -40,10 +42,16 @@ import java.util.List;
  *
  * <p>다양한 메서드를 통해 각 필터 조건을 설정하고, {@link #checkClear(ClearData...)} 메서드를 호출하여 필터링된 클리어 데이터를 얻을 수 있습니다.
  *
+ * <p>{@link #allOf(ClearQuery...)}, {@link #anyOf(ClearQuery...)}, {@link #not(ClearQuery)}를 사용하여 여러 조건을 결합할 수 있으며,
+ * 결합된 조건은 데이터를 한 번만 탐색하여 확인합니다. {@link ClearIndex}를 사용하는 경우 색인의 교집합과 합집합으로 탐색 범위를 줄입니다.
+ *
  * @author Jongyeol
  * @see ClearData
  */
 public class ClearQuery {
+    private static final byte AND = 1;
+    private static final byte OR = 2;
+    private static final byte NOT = 3;
     private String name;
     private int userCode = -1;
     private int mapId = -1;
@@ -59,6 +67,10 @@ public class ClearQuery {
     private int maxSongRank = -1;
     private int minTotalRank = -1;
     private int maxTotalRank = -1;
+    private long minTime = -1;
+    private long maxTime = -1;
+    private byte operator;
+    private ClearQuery[] operands;
 
     /**
      * 클리어 데이터의 이름을 설정합니다.
@@ -471,6 +483,55 @@ public class ClearQuery {
         checkInt(totalRank, "TotalRank");
     }
 
+    /**
+     * 클리어 시간의 범위를 설정합니다.
+     *
+     * <p>최근 24시간의 클리어는 {@code setTimeRange(now - 86400000, now)}와 같이 검색할 수 있습니다.
+     *
+     * @param from 범위의 시작 시간(epoch 밀리초, 포함)입니다.
+     * @param to 범위의 끝 시간(epoch 밀리초, 포함)입니다.
+     * @return {@link ClearQuery} 개체 자신을 반환합니다.
+     * @throws IllegalArgumentException 값이 0보다 작거나 시작 시간이 끝 시간보다 큰 경우 발생합니다.
+     */
+    public ClearQuery setTimeRange(long from, long to) {
+        checkTime(from);
+        checkTime(to);
+        if(from > to) throw new IllegalArgumentException("to cannot be less than the from");
+        minTime = from;
+        maxTime = to;
+        return this;
+    }
+
+    /**
+     * 클리어 시간의 최소 범위를 설정합니다.
+     *
+     * @param from 범위의 시작 시간(epoch 밀리초, 포함)입니다.
+     * @return {@link ClearQuery} 개체 자신을 반환합니다.
+     * @throws IllegalArgumentException 값이 0보다 작을 경우 예외가 발생합니다.
+     */
+    public ClearQuery setMinTime(long from) {
+        checkTime(from);
+        minTime = from;
+        return this;
+    }
+
+    /**
+     * 클리어 시간의 최대 범위를 설정합니다.
+     *
+     * @param to 범위의 끝 시간(epoch 밀리초, 포함)입니다.
+     * @return {@link ClearQuery} 개체 자신을 반환합니다.
+     * @throws IllegalArgumentException 값이 0보다 작을 경우 예외가 발생합니다.
+     */
+    public ClearQuery setMaxTime(long to) {
+        checkTime(to);
+        maxTime = to;
+        return this;
+    }
+
+    private void checkTime(long time) {
+        if(time < 0) throw new IllegalArgumentException("time cannot be less than 0");
+    }
+
     private void checkString(String value) {
         if(value == null) throw new NullPointerException();
     }
@@ -480,13 +541,103 @@ public class ClearQuery {
     }
 
     /**
-     * 클리어 데이터를 필터링하여 설정된 조건에 맞는 데이터를 반환합니다.
+     * 주어진 모든 조건을 만족하는 {@link ClearQuery}를 생성합니다.
      *
-     * @param clearData 클리어 데이터 배열입니다.
-     * @return 조건에 맞는 클리어 데이터의 목록입니다.
+     * <p>생성된 {@link ClearQuery}에 다른 조건을 추가로 설정할 경우 추가된 조건과 주어진 조건을 모두 만족해야 합니다.
+     *
+     * @param queries 결합할 {@link ClearQuery} 객체들입니다.
+     * @return 조건이 결합된 새로운 {@link ClearQuery} 개체입니다.
+     * @throws NullPointerException 조건이 null일 경우 예외가 발생합니다.
      */
-    public List<ClearData> checkClear(ClearData... clearData) {
-        return Arrays.stream(clearData).filter(clear -> (name == null || clear.getName().contains(name))
+    public static ClearQuery allOf(ClearQuery... queries) {
+        return combine(AND, queries);
+    }
+
+    /**
+     * 주어진 조건 중 하나 이상을 만족하는 {@link ClearQuery}를 생성합니다.
+     *
+     * <p>생성된 {@link ClearQuery}에 다른 조건을 추가로 설정할 경우 추가된 조건과 주어진 조건 중 하나를 만족해야 합니다.
+     *
+     * @param queries 결합할 {@link ClearQuery} 객체들입니다.
+     * @return 조건이 결합된 새로운 {@link ClearQuery} 개체입니다.
+     * @throws NullPointerException 조건이 null일 경우 예외가 발생합니다.
+     */
+    public static ClearQuery anyOf(ClearQuery... queries) {
+        return combine(OR, queries);
+    }
+
+    /**
+     * 주어진 조건을 만족하지 않는 {@link ClearQuery}를 생성합니다.
+     *
+     * @param query 반전할 {@link ClearQuery} 객체입니다.
+     * @return 조건이 반전된 새로운 {@link ClearQuery} 개체입니다.
+     * @throws NullPointerException 조건이 null일 경우 예외가 발생합니다.
+     */
+    public static ClearQuery not(ClearQuery query) {
+        return combine(NOT, query);
+    }
+
+    /**
+     * 이 조건과 주어진 조건을 모두 만족하는 {@link ClearQuery}를 생성합니다.
+     *
+     * <p>결합된 조건은 원래 개체를 참조하므로, 이후 원래 개체의 조건을 변경하면 결합된 조건에도 반영됩니다.
+     *
+     * @param query 결합할 {@link ClearQuery} 객체입니다.
+     * @return 조건이 결합된 새로운 {@link ClearQuery} 개체입니다.
+     * @throws NullPointerException 조건이 null일 경우 예외가 발생합니다.
+     */
+    public ClearQuery and(ClearQuery query) {
+        return allOf(this, query);
+    }
+
+    /**
+     * 이 조건과 주어진 조건 중 하나 이상을 만족하는 {@link ClearQuery}를 생성합니다.
+     *
+     * <p>결합된 조건은 원래 개체를 참조하므로, 이후 원래 개체의 조건을 변경하면 결합된 조건에도 반영됩니다.
+     *
+     * @param query 결합할 {@link ClearQuery} 객체입니다.
+     * @return 조건이 결합된 새로운 {@link ClearQuery} 개체입니다.
+     * @throws NullPointerException 조건이 null일 경우 예외가 발생합니다.
+     */
+    public ClearQuery or(ClearQuery query) {
+        return anyOf(this, query);
+    }
+
+    private static ClearQuery combine(byte operator, ClearQuery... queries) {
+        for(ClearQuery query : queries) if(query == null) throw new NullPointerException();
+        ClearQuery result = new ClearQuery();
+        result.operator = operator;
+        result.operands = queries.clone();
+        return result;
+    }
+
+    private boolean matchesOperands(ClearData clear) {
+        switch(operator) {
+            case AND -> {
+                for(ClearQuery query : operands) if(!query.matches(clear)) return false;
+                return true;
+            }
+            case OR -> {
+                for(ClearQuery query : operands) if(query.matches(clear)) return true;
+                return false;
+            }
+            case NOT -> {
+                return !operands[0].matches(clear);
+            }
+            default -> {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 클리어 데이터가 설정된 조건에 맞는지 확인합니다.
+     *
+     * @param clear 확인할 클리어 데이터입니다.
+     * @return 조건에 맞을 경우 {@code true}를 반환합니다.
+     */
+    public boolean matches(ClearData clear) {
+        return (name == null || clear.getName().contains(name))
             && (userCode == -1 || clear.getUserCode() == userCode)
             && (mapId == -1 || clear.getMapId() == mapId)
             && (minSpeed == -1 || clear.getSpeed() >= minSpeed)
@@ -497,9 +648,159 @@ public class ClearQuery {
             && (maxPlayPoint == -1 || clear.getPlayPoint() <= maxPlayPoint)
             && (minLocalRank == -1 || clear.getLocalRank() >= minLocalRank)
             && (maxLocalRank == -1 || clear.getLocalRank() <= maxLocalRank)
-            && (minSongRank == -1 || clear.getSongRank() >= minLocalRank)
+            && (minSongRank == -1 || clear.getSongRank() >= minSongRank)
             && (maxSongRank == -1 || clear.getSongRank() <= maxSongRank)
             && (minTotalRank == -1 || clear.getTotalRank() >= minTotalRank)
-            && (maxTotalRank == -1 || clear.getTotalRank() <= maxTotalRank)).toList();
+            && (maxTotalRank == -1 || clear.getTotalRank() <= maxTotalRank)
+            && (minTime == -1 || clear.getTimeStampMillis() >= minTime)
+            && (maxTime == -1 || (clear.getTimeStampMillis() >= 0 && clear.getTimeStampMillis() <= maxTime))
+            && matchesOperands(clear);
+    }
+
+    /**
+     * 클리어 데이터를 필터링하여 설정된 조건에 맞는 데이터를 반환합니다.
+     *
+     * @param clearData 클리어 데이터 배열입니다.
+     * @return 조건에 맞는 클리어 데이터의 목록입니다.
+     */
+    public List<ClearData> checkClear(ClearData... clearData) {
+        return Arrays.stream(clearData).filter(this::matches).toList();
+    }
+
+    /**
+     * 설정된 조건에 맞는 클리어 데이터의 수를 반환합니다.
+     *
+     * @param clearData 클리어 데이터 배열입니다.
+     * @return 조건에 맞는 클리어 데이터의 수입니다.
+     */
+    public int countClear(ClearData... clearData) {
+        int count = 0;
+        for(ClearData clear : clearData) if(matches(clear)) count++;
+        return count;
+    }
+
+    /**
+     * 설정된 조건에 맞는 클리어 데이터가 존재하는지 확인합니다.
+     *
+     * <p>조건에 맞는 데이터를 처음 찾은 즉시 탐색을 멈춥니다.
+     *
+     * @param clearData 클리어 데이터 배열입니다.
+     * @return 조건에 맞는 클리어 데이터가 하나라도 있을 경우 {@code true}를 반환합니다.
+     */
+    public boolean existsClear(ClearData... clearData) {
+        for(ClearData clear : clearData) if(matches(clear)) return true;
+        return false;
+    }
+
+    /**
+     * {@link ClearIndex}를 사용하여 설정된 조건에 맞는 데이터를 반환합니다.
+     *
+     * <p>맵 ID나 사용자 코드가 설정된 경우 색인에 해당하는 데이터만 확인합니다.
+     *
+     * @param index 클리어 데이터 색인입니다.
+     * @return 조건에 맞는 클리어 데이터의 목록입니다.
+     */
+    public List<ClearData> checkClear(ClearIndex index) {
+        int[] candidates = findCandidates(index);
+        if(candidates == null) return checkClear(index.getClears());
+        ClearData[] clears = index.getClears();
+        List<ClearData> result = new ArrayList<>();
+        for(int i : candidates) if(matches(clears[i])) result.add(clears[i]);
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * {@link ClearIndex}를 사용하여 설정된 조건에 맞는 데이터의 수를 반환합니다.
+     *
+     * <p>맵 ID나 사용자 코드 중 하나만 설정된 경우 데이터를 확인하지 않고 색인의 크기를 반환합니다.
+     *
+     * @param index 클리어 데이터 색인입니다.
+     * @return 조건에 맞는 클리어 데이터의 수입니다.
+     */
+    public int countClear(ClearIndex index) {
+        int[] candidates = findCandidates(index);
+        if(candidates == null) return countClear(index.getClears());
+        if(isSingleKey()) return candidates.length;
+        ClearData[] clears = index.getClears();
+        int count = 0;
+        for(int i : candidates) if(matches(clears[i])) count++;
+        return count;
+    }
+
+    /**
+     * {@link ClearIndex}를 사용하여 설정된 조건에 맞는 데이터가 존재하는지 확인합니다.
+     *
+     * @param index 클리어 데이터 색인입니다.
+     * @return 조건에 맞는 클리어 데이터가 하나라도 있을 경우 {@code true}를 반환합니다.
+     */
+    public boolean existsClear(ClearIndex index) {
+        int[] candidates = findCandidates(index);
+        if(candidates == null) return existsClear(index.getClears());
+        if(isSingleKey()) return candidates.length != 0;
+        ClearData[] clears = index.getClears();
+        for(int i : candidates) if(matches(clears[i])) return true;
+        return false;
+    }
+
+    /**
+     * {@link ClearIndex}를 사용하여 설정된 조건에 맞는 데이터에서 지정된 필드의 값만 선택합니다.
+     *
+     * <p>결과는 {@link ClearData} 개체 대신 필드마다 기본형 배열로 저장되며, 데이터의 순서는 색인의 순서와 같습니다.
+     *
+     * <p>예시 사용법:
+     * <p>ClearProjection result = query.select(index, ClearField.ID, ClearField.PLAY_POINT);
+     *
+     * @param index 클리어 데이터 색인입니다.
+     * @param fields 선택할 필드입니다.
+     * @return 선택한 필드의 값이 담긴 {@link ClearProjection}입니다.
+     * @throws IllegalArgumentException 선택할 필드가 없을 경우 예외가 발생합니다.
+     */
+    public ClearProjection select(ClearIndex index, ClearField... fields) {
+        if(fields.length == 0) throw new IllegalArgumentException("At least one field must be selected");
+        ClearData[] clears = index.getClears();
+        int[] candidates = findCandidates(index);
+        int[] rows = new int[candidates == null ? clears.length : candidates.length];
+        int size = 0;
+        if(candidates == null) {
+            for(int i = 0; i < clears.length; i++) if(matches(clears[i])) rows[size++] = i;
+        } else if(isSingleKey()) {
+            rows = candidates;
+            size = candidates.length;
+        } else for(int i : candidates) if(matches(clears[i])) rows[size++] = i;
+        return new ClearProjection(clears, rows, size, fields);
+    }
+
+    int[] findCandidates(ClearIndex index) {
+        int[] candidates = null;
+        if(mapId != -1) candidates = index.getByMapId(mapId);
+        if(userCode != -1) candidates = ClearIndex.intersect(candidates, index.getByUserCode(userCode));
+        if(minTime != -1 || maxTime != -1)
+            candidates = ClearIndex.intersect(candidates, index.getByTimeRange(minTime, maxTime == -1 ? Long.MAX_VALUE : maxTime));
+        switch(operator) {
+            case AND -> {
+                for(ClearQuery query : operands) candidates = ClearIndex.intersect(candidates, query.findCandidates(index));
+            }
+            case OR -> {
+                int[] union = new int[0];
+                for(ClearQuery query : operands) {
+                    int[] operand = query.findCandidates(index);
+                    if(operand == null) return candidates;
+                    union = ClearIndex.union(union, operand);
+                }
+                candidates = ClearIndex.intersect(candidates, union);
+            }
+        }
+        return candidates;
+    }
+
+    private boolean isSingleKey() {
+        return operator == 0 && name == null && (mapId == -1 || userCode == -1)
+            && minSpeed == -1 && maxSpeed == -1
+            && minXAccuracy == -1 && maxXAccuracy == -1
+            && minPlayPoint == -1 && maxPlayPoint == -1
+            && minLocalRank == -1 && maxLocalRank == -1
+            && minSongRank == -1 && maxSongRank == -1
+            && minTotalRank == -1 && maxTotalRank == -1
+            && minTime == -1 && maxTime == -1;
     }
 }
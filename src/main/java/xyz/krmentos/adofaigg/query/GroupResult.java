@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.query;
+
+import java.util.Arrays;
+
+/**
+ * 이 클래스는 {@link ClearGroupBy}의 집계 결과를 나타냅니다.
+ *
+ * <p>그룹의 키는 오름차순으로 정렬되어 있으며, 각 키에 해당하는 값은 같은 위치에 저장됩니다.
+ *
+ * @author Jongyeol
+ * @see ClearGroupBy
+ */
+public class GroupResult {
+    private final long[] keys;
+    private final double[] values;
+
+    GroupResult(long[] keys, double[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * 그룹의 수를 반환합니다.
+     *
+     * @return 그룹의 수입니다.
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * 지정된 위치의 그룹 키를 반환합니다.
+     *
+     * @param index 그룹의 위치입니다.
+     * @return 그룹 키입니다.
+     */
+    public long getKey(int index) {
+        return keys[index];
+    }
+
+    /**
+     * 지정된 위치의 집계 값을 반환합니다.
+     *
+     * @param index 그룹의 위치입니다.
+     * @return 집계 값입니다.
+     */
+    public double getValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * 지정된 그룹 키가 존재하는지 확인합니다.
+     *
+     * @param key 확인할 그룹 키입니다.
+     * @return 그룹이 존재할 경우 {@code true}를 반환합니다.
+     */
+    public boolean contains(long key) {
+        return Arrays.binarySearch(keys, key) >= 0;
+    }
+
+    /**
+     * 지정된 그룹 키의 집계 값을 반환합니다.
+     *
+     * @param key 검색할 그룹 키입니다.
+     * @return 집계 값입니다. 그룹이 존재하지 않을 경우 {@link Double#NaN}을 반환합니다.
+     */
+    public double get(long key) {
+        int index = Arrays.binarySearch(keys, key);
+        return index < 0 ? Double.NaN : values[index];
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.query;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+/**
+ * 이 클래스는 데이터의 ID로 배열에서의 위치를 찾기 위한 색인입니다.
+ *
+ * <p>ID가 조밀한 경우 ID를 위치로 하는 배열을 사용하고, 드문드문한 경우 정렬된 ID 배열에서 이진 탐색을 사용합니다.
+ * 같은 ID가 여러 번 나타날 경우 마지막 위치를 사용합니다.
+ *
+ * <p>{@link #append(Object[], int, ToIntFunction)}로 뒤에 추가된 데이터만 반영한 색인을 만들 수 있으며,
+ * 새 ID가 기존 ID보다 클 경우 이전 색인과 같은 배열을 공유하므로 추가된 데이터의 수에 비례하는 시간만 걸립니다.
+ *
+ * @author Jongyeol
+ */
+public class IdIndex {
+    private final int[] ids;
+    private final int[] positions;
+    private final int size;
+    private final AtomicInteger used;
+
+    private IdIndex(int[] ids, int[] positions, int size, AtomicInteger used) {
+        this.ids = ids;
+        this.positions = positions;
+        this.size = size;
+        this.used = used;
+    }
+
+    /**
+     * 주어진 데이터 배열의 ID 색인을 생성합니다.
+     *
+     * @param data 색인을 생성할 데이터 배열입니다.
+     * @param id 데이터의 ID를 반환하는 함수입니다.
+     * @param <T> 데이터의 타입입니다.
+     * @return 생성된 {@link IdIndex}입니다.
+     */
+    public static <T> IdIndex of(T[] data, ToIntFunction<T> id) {
+        int maxId = 0;
+        boolean negative = false;
+        for(T value : data) {
+            int key = id.applyAsInt(value);
+            if(key < 0) negative = true;
+            else maxId = Math.max(maxId, key);
+        }
+        if(!negative && maxId <= data.length * 4L + 1024) {
+            int[] positions = new int[maxId + 1];
+            Arrays.fill(positions, -1);
+            for(int i = 0; i < data.length; i++) positions[id.applyAsInt(data[i])] = i;
+            return new IdIndex(null, positions, positions.length, new AtomicInteger(positions.length));
+        }
+        long[] pairs = new long[data.length];
+        for(int i = 0; i < data.length; i++) pairs[i] = (long) id.applyAsInt(data[i]) << 32 | i;
+        Arrays.sort(pairs);
+        int size = 0;
+        int[] ids = new int[data.length];
+        int[] positions = new int[data.length];
+        for(long pair : pairs) {
+            int key = (int) (pair >> 32);
+            if(size > 0 && ids[size - 1] == key) size--;
+            ids[size] = key;
+            positions[size++] = (int) pair;
+        }
+        return new IdIndex(Arrays.copyOf(ids, size), Arrays.copyOf(positions, size), size, null);
+    }
+
+    /**
+     * 이 색인을 만든 배열 뒤에 데이터가 추가된 배열의 색인을 생성합니다. 이 색인은 바뀌지 않습니다.
+     *
+     * <p>추가된 ID가 모두 기존 ID보다 크고 조밀할 경우 위치 배열의 남은 공간에 이어서 기록하며,
+     * 공간이 부족하거나 기존 ID 사이에 추가된 경우 위치 배열만 복사하여 기록합니다.
+     * 드문드문한 ID를 사용하는 색인은 새로 생성합니다.
+     *
+     * @param data 색인을 생성할 데이터 배열입니다. 앞부분은 이 색인을 만든 배열과 같아야 합니다.
+     * @param from 추가된 데이터가 시작하는 위치입니다.
+     * @param id 데이터의 ID를 반환하는 함수입니다.
+     * @param <T> 데이터의 타입입니다.
+     * @return 생성된 {@link IdIndex}입니다.
+     */
+    public <T> IdIndex append(T[] data, int from, ToIntFunction<T> id) {
+        if(ids != null) return of(data, id);
+        int maxId = size - 1;
+        boolean increasing = true;
+        for(int i = from; i < data.length; i++) {
+            int key = id.applyAsInt(data[i]);
+            if(key < 0) return of(data, id);
+            if(key <= maxId) increasing = false;
+            maxId = Math.max(maxId, key);
+        }
+        if(maxId > data.length * 4L + 1024) return of(data, id);
+        int newSize = maxId + 1;
+        int[] positions = this.positions;
+        AtomicInteger used = this.used;
+        if(!increasing || positions.length < newSize || !used.compareAndSet(size, newSize)) {
+            positions = Arrays.copyOf(positions, Math.max(newSize, size + (size >> 1)));
+            used = new AtomicInteger(newSize);
+        }
+        Arrays.fill(positions, size, newSize, -1);
+        for(int i = from; i < data.length; i++) positions[id.applyAsInt(data[i])] = i;
+        return new IdIndex(null, positions, newSize, used);
+    }
+
+    /**
+     * 지정된 ID를 가진 데이터의 위치를 반환합니다.
+     *
+     * @param id 검색할 ID입니다.
+     * @return 배열에서의 위치입니다. ID가 존재하지 않을 경우 -1을 반환합니다.
+     */
+    public int indexOf(int id) {
+        if(ids == null) return id < 0 || id >= size ? -1 : positions[id];
+        int index = Arrays.binarySearch(ids, id);
+        return index < 0 ? -1 : positions[index];
+    }
+}
@@ -41,10 +41,16 @@ import java.util.List;
  *
  * <p>다양한 메서드를 통해 각 필터 조건을 설정하고, {@link #checkMap(MapData...)} 메서드를 호출하여 필터링된 클리어 데이터를 얻을 수 있습니다.
  *
+ * <p>{@link #allOf(MapQuery...)}, {@link #anyOf(MapQuery...)}, {@link #not(MapQuery)}를 사용하여 여러 조건을 결합할 수 있으며,
+ * 결합된 조건은 데이터를 한 번만 탐색하여 확인합니다.
+ *
  * @author Jongyeol
  * @see MapData
  */
 public class MapQuery {
+    private static final byte AND = 1;
+    private static final byte OR = 2;
+    private static final byte NOT = 3;
     private String song;
     private String artist;
     private float minDifficulty = -999;
@@ -57,7 +63,10 @@ public class MapQuery {
     private int maxTiles = -1;
     private boolean tagAllNeed;
     private Tag[] tags;
+    private long tagMask;
     private byte dlc = -1;
+    private byte operator;
+    private MapQuery[] operands;
 
     /**
      * 맵의 제목을 설정합니다.
@@ -308,6 +317,8 @@ public class MapQuery {
         for(Tag tag : tags) if(tag == null) throw new NullPointerException();
         this.tagAllNeed = tagAllNeed;
         this.tags = tags;
+        tagMask = 0;
+        for(Tag tag : tags) tagMask |= 1L << tag.ordinal();
         return this;
     }
 
@@ -327,13 +338,103 @@ public class MapQuery {
     }
 
     /**
-     * 맵 데이터를 필터링하여 설정된 조건에 맞는 데이터를 반환합니다.
+     * 주어진 모든 조건을 만족하는 {@link MapQuery}를 생성합니다.
      *
-     * @param mapData 맵 데이터 배열입니다.
-     * @return 조건에 맞는 클리어 데이터의 목록입니다.
+     * <p>생성된 {@link MapQuery}에 다른 조건을 추가로 설정할 경우 추가된 조건과 주어진 조건을 모두 만족해야 합니다.
+     *
+     * @param queries 결합할 {@link MapQuery} 객체들입니다.
+     * @return 조건이 결합된 새로운 {@link MapQuery} 개체입니다.
+     * @throws NullPointerException 조건이 null일 경우 예외가 발생합니다.
      */
-    public List<MapData> checkMap(MapData... mapData) {
-        return Arrays.stream(mapData).filter(map -> (song == null || map.getSong().contains(song))
+    public static MapQuery allOf(MapQuery... queries) {
+        return combine(AND, queries);
+    }
+
+    /**
+     * 주어진 조건 중 하나 이상을 만족하는 {@link MapQuery}를 생성합니다.
+     *
+     * <p>생성된 {@link MapQuery}에 다른 조건을 추가로 설정할 경우 추가된 조건과 주어진 조건 중 하나를 만족해야 합니다.
+     *
+     * @param queries 결합할 {@link MapQuery} 객체들입니다.
+     * @return 조건이 결합된 새로운 {@link MapQuery} 개체입니다.
+     * @throws NullPointerException 조건이 null일 경우 예외가 발생합니다.
+     */
+    public static MapQuery anyOf(MapQuery... queries) {
+        return combine(OR, queries);
+    }
+
+    /**
+     * 주어진 조건을 만족하지 않는 {@link MapQuery}를 생성합니다.
+     *
+     * @param query 반전할 {@link MapQuery} 객체입니다.
+     * @return 조건이 반전된 새로운 {@link MapQuery} 개체입니다.
+     * @throws NullPointerException 조건이 null일 경우 예외가 발생합니다.
+     */
+    public static MapQuery not(MapQuery query) {
+        return combine(NOT, query);
+    }
+
+    /**
+     * 이 조건과 주어진 조건을 모두 만족하는 {@link MapQuery}를 생성합니다.
+     *
+     * <p>결합된 조건은 원래 개체를 참조하므로, 이후 원래 개체의 조건을 변경하면 결합된 조건에도 반영됩니다.
+     *
+     * @param query 결합할 {@link MapQuery} 객체입니다.
+     * @return 조건이 결합된 새로운 {@link MapQuery} 개체입니다.
+     * @throws NullPointerException 조건이 null일 경우 예외가 발생합니다.
+     */
+    public MapQuery and(MapQuery query) {
+        return allOf(this, query);
+    }
+
+    /**
+     * 이 조건과 주어진 조건 중 하나 이상을 만족하는 {@link MapQuery}를 생성합니다.
+     *
+     * <p>결합된 조건은 원래 개체를 참조하므로, 이후 원래 개체의 조건을 변경하면 결합된 조건에도 반영됩니다.
+     *
+     * @param query 결합할 {@link MapQuery} 객체입니다.
+     * @return 조건이 결합된 새로운 {@link MapQuery} 개체입니다.
+     * @throws NullPointerException 조건이 null일 경우 예외가 발생합니다.
+     */
+    public MapQuery or(MapQuery query) {
+        return anyOf(this, query);
+    }
+
+    private static MapQuery combine(byte operator, MapQuery... queries) {
+        for(MapQuery query : queries) if(query == null) throw new NullPointerException();
+        MapQuery result = new MapQuery();
+        result.operator = operator;
+        result.operands = queries.clone();
+        return result;
+    }
+
+    private boolean matchesOperands(MapData map) {
+        switch(operator) {
+            case AND -> {
+                for(MapQuery query : operands) if(!query.matches(map)) return false;
+                return true;
+            }
+            case OR -> {
+                for(MapQuery query : operands) if(query.matches(map)) return true;
+                return false;
+            }
+            case NOT -> {
+                return !operands[0].matches(map);
+            }
+            default -> {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 맵 데이터가 설정된 조건에 맞는지 확인합니다.
+     *
+     * @param map 확인할 맵 데이터입니다.
+     * @return 조건에 맞을 경우 {@code true}를 반환합니다.
+     */
+    public boolean matches(MapData map) {
+        return (song == null || map.getSong().contains(song))
             && (artist == null || map.getArtist().contains(artist))
             && (minDifficulty == -999 || map.getDifficulty() >= minDifficulty)
             && (maxDifficulty == -999 || map.getDifficulty() <= maxDifficulty)
@@ -343,9 +444,52 @@ public class MapQuery {
             && (maxBPM == -1 || map.getBpm() <= maxBPM)
             && (minTiles == -1 || map.getTiles() >= minTiles)
             && (maxTiles == -1 || map.getTiles() <= maxTiles)
-            && (tags == null || (tagAllNeed ?
-            (Arrays.stream(map.getTags()).allMatch(tag -> Arrays.stream(tags).anyMatch(tag1 -> tag == tag1)))
-            : (Arrays.stream(map.getTags()).anyMatch(tag -> Arrays.stream(tags).anyMatch(tag1 -> tag == tag1)))))
-            && (dlc == -1 || map.isDlc() == (dlc == 1))).toList();
+            && (tags == null || checkTags(map.getTags()))
+            && (dlc == -1 || map.isDlc() == (dlc == 1))
+            && matchesOperands(map);
+    }
+
+    private boolean checkTags(Tag[] mapTags) {
+        for(Tag tag : mapTags) {
+            boolean contains = (tagMask & 1L << tag.ordinal()) != 0;
+            if(tagAllNeed && !contains) return false;
+            if(!tagAllNeed && contains) return true;
+        }
+        return tagAllNeed;
+    }
+
+    /**
+     * 맵 데이터를 필터링하여 설정된 조건에 맞는 데이터를 반환합니다.
+     *
+     * @param mapData 맵 데이터 배열입니다.
+     * @return 조건에 맞는 클리어 데이터의 목록입니다.
+     */
+    public List<MapData> checkMap(MapData... mapData) {
+        return Arrays.stream(mapData).filter(this::matches).toList();
+    }
+
+    /**
+     * 설정된 조건에 맞는 맵 데이터의 수를 반환합니다.
+     *
+     * @param mapData 맵 데이터 배열입니다.
+     * @return 조건에 맞는 맵 데이터의 수입니다.
+     */
+    public int countMap(MapData... mapData) {
+        int count = 0;
+        for(MapData map : mapData) if(matches(map)) count++;
+        return count;
+    }
+
+    /**
+     * 설정된 조건에 맞는 맵 데이터가 존재하는지 확인합니다.
+     *
+     * <p>조건에 맞는 데이터를 처음 찾은 즉시 탐색을 멈춥니다.
+     *
+     * @param mapData 맵 데이터 배열입니다.
+     * @return 조건에 맞는 맵 데이터가 하나라도 있을 경우 {@code true}를 반환합니다.
+     */
+    public boolean existsMap(MapData... mapData) {
+        for(MapData map : mapData) if(matches(map)) return true;
+        return false;
     }
 }
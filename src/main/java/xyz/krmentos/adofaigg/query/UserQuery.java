@@ -41,15 +41,23 @@ import java.util.List;
  *
  * <p>다양한 메서드를 통해 각 필터 조건을 설정하고, {@link #checkUser(UserData...)} 메서드를 호출하여 필터링된 클리어 데이터를 얻을 수 있습니다.
  *
+ * <p>{@link #allOf(UserQuery...)}, {@link #anyOf(UserQuery...)}, {@link #not(UserQuery)}를 사용하여 여러 조건을 결합할 수 있으며,
+ * 결합된 조건은 데이터를 한 번만 탐색하여 확인합니다.
+ *
  * @author Jongyeol
  * @see UserData
  */
 public class UserQuery {
+    private static final byte AND = 1;
+    private static final byte OR = 2;
+    private static final byte NOT = 3;
     private String userName;
     private int minRank = -1;
     private int maxRank = -1;
     private double minTotalPP = -1;
     private double maxTotalPP = -1;
+    private byte operator;
+    private UserQuery[] operands;
 
     /**
      * 유저의 이름을 설정합니다.
@@ -190,6 +198,111 @@ public class UserQuery {
         if(value == null) throw new NullPointerException();
     }
 
+    /**
+     * 주어진 모든 조건을 만족하는 {@link UserQuery}를 생성합니다.
+     *
+     * <p>생성된 {@link UserQuery}에 다른 조건을 추가로 설정할 경우 추가된 조건과 주어진 조건을 모두 만족해야 합니다.
+     *
+     * @param queries 결합할 {@link UserQuery} 객체들입니다.
+     * @return 조건이 결합된 새로운 {@link UserQuery} 개체입니다.
+     * @throws NullPointerException 조건이 null일 경우 예외가 발생합니다.
+     */
+    public static UserQuery allOf(UserQuery... queries) {
+        return combine(AND, queries);
+    }
+
+    /**
+     * 주어진 조건 중 하나 이상을 만족하는 {@link UserQuery}를 생성합니다.
+     *
+     * <p>생성된 {@link UserQuery}에 다른 조건을 추가로 설정할 경우 추가된 조건과 주어진 조건 중 하나를 만족해야 합니다.
+     *
+     * @param queries 결합할 {@link UserQuery} 객체들입니다.
+     * @return 조건이 결합된 새로운 {@link UserQuery} 개체입니다.
+     * @throws NullPointerException 조건이 null일 경우 예외가 발생합니다.
+     */
+    public static UserQuery anyOf(UserQuery... queries) {
+        return combine(OR, queries);
+    }
+
+    /**
+     * 주어진 조건을 만족하지 않는 {@link UserQuery}를 생성합니다.
+     *
+     * @param query 반전할 {@link UserQuery} 객체입니다.
+     * @return 조건이 반전된 새로운 {@link UserQuery} 개체입니다.
+     * @throws NullPointerException 조건이 null일 경우 예외가 발생합니다.
+     */
+    public static UserQuery not(UserQuery query) {
+        return combine(NOT, query);
+    }
+
+    /**
+     * 이 조건과 주어진 조건을 모두 만족하는 {@link UserQuery}를 생성합니다.
+     *
+     * <p>결합된 조건은 원래 개체를 참조하므로, 이후 원래 개체의 조건을 변경하면 결합된 조건에도 반영됩니다.
+     *
+     * @param query 결합할 {@link UserQuery} 객체입니다.
+     * @return 조건이 결합된 새로운 {@link UserQuery} 개체입니다.
+     * @throws NullPointerException 조건이 null일 경우 예외가 발생합니다.
+     */
+    public UserQuery and(UserQuery query) {
+        return allOf(this, query);
+    }
+
+    /**
+     * 이 조건과 주어진 조건 중 하나 이상을 만족하는 {@link UserQuery}를 생성합니다.
+     *
+     * <p>결합된 조건은 원래 개체를 참조하므로, 이후 원래 개체의 조건을 변경하면 결합된 조건에도 반영됩니다.
+     *
+     * @param query 결합할 {@link UserQuery} 객체입니다.
+     * @return 조건이 결합된 새로운 {@link UserQuery} 개체입니다.
+     * @throws NullPointerException 조건이 null일 경우 예외가 발생합니다.
+     */
+    public UserQuery or(UserQuery query) {
+        return anyOf(this, query);
+    }
+
+    private static UserQuery combine(byte operator, UserQuery... queries) {
+        for(UserQuery query : queries) if(query == null) throw new NullPointerException();
+        UserQuery result = new UserQuery();
+        result.operator = operator;
+        result.operands = queries.clone();
+        return result;
+    }
+
+    private boolean matchesOperands(UserData user) {
+        switch(operator) {
+            case AND -> {
+                for(UserQuery query : operands) if(!query.matches(user)) return false;
+                return true;
+            }
+            case OR -> {
+                for(UserQuery query : operands) if(query.matches(user)) return true;
+                return false;
+            }
+            case NOT -> {
+                return !operands[0].matches(user);
+            }
+            default -> {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 유저 데이터가 설정된 조건에 맞는지 확인합니다.
+     *
+     * @param user 확인할 유저 데이터입니다.
+     * @return 조건에 맞을 경우 {@code true}를 반환합니다.
+     */
+    public boolean matches(UserData user) {
+        return (userName == null || user.getUserName().contains(userName))
+            && (minRank == -1 || user.getRank() >= minRank)
+            && (maxRank == -1 || user.getRank() <= maxRank)
+            && (minTotalPP == -1 || user.getTotalPP() >= minTotalPP)
+            && (maxTotalPP == -1 || user.getTotalPP() <= maxTotalPP)
+            && matchesOperands(user);
+    }
+
     /**
      * 유저 데이터를 필터링하여 설정된 조건에 맞는 데이터를 반환합니다.
      *
@@ -197,10 +310,31 @@ public class UserQuery {
      * @return 조건에 맞는 클리어 데이터의 목록입니다.
      */
     public List<UserData> checkUser(UserData... userData) {
-        return Arrays.stream(userData).filter(user -> (userName == null || user.getUserName().contains(userName))
-            && (minRank == -1 || user.getRank() >= minRank)
-            && (maxRank == -1 || user.getRank() <= maxRank)
-            && (minTotalPP == -1 || user.getTotalPP() >= minTotalPP)
-            && (maxTotalPP == -1 || user.getTotalPP() <= maxTotalPP)).toList();
+        return Arrays.stream(userData).filter(this::matches).toList();
+    }
+
+    /**
+     * 설정된 조건에 맞는 유저 데이터의 수를 반환합니다.
+     *
+     * @param userData 유저 데이터 배열입니다.
+     * @return 조건에 맞는 유저 데이터의 수입니다.
+     */
+    public int countUser(UserData... userData) {
+        int count = 0;
+        for(UserData user : userData) if(matches(user)) count++;
+        return count;
+    }
+
+    /**
+     * 설정된 조건에 맞는 유저 데이터가 존재하는지 확인합니다.
+     *
+     * <p>조건에 맞는 데이터를 처음 찾은 즉시 탐색을 멈춥니다.
+     *
+     * @param userData 유저 데이터 배열입니다.
+     * @return 조건에 맞는 유저 데이터가 하나라도 있을 경우 {@code true}를 반환합니다.
+     */
+    public boolean existsUser(UserData... userData) {
+        for(UserData user : userData) if(matches(user)) return true;
+        return false;
     }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.setting;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import xyz.krmentos.adofaigg.LoadManager;
+
+/**
+ * 이 클래스는 한 종류의 데이터를 받아오는 정책을 나타냅니다.
+ *
+ * <p>정책은 데이터를 받아오는 조건({@link LoadOption}), 받아오는 간격, 우선순위로 구성되며,
+ * {@link LoadManager}는 {@link DataType}마다 정책을 따로 적용합니다.
+ * 우선순위가 높은 데이터는 여러 데이터를 동시에 받아와야 할 때 먼저 받아옵니다.
+ *
+ * <p>예시 사용법:
+ * <p>new AdofaiGG(new RefreshPolicy(LoadOption.LOAD_FOR_TIME, 604800), new RefreshPolicy(LoadOption.LOAD_FOR_TIME, 180, 10), new RefreshPolicy(LoadOption.LOAD_ACTIVE_FOR_TIME, 3600));
+ *
+ * @author Jongyeol
+ * @see DataType
+ * @see LoadManager
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class RefreshPolicy {
+    private final LoadOption loadOption;
+    private final long loadTime;
+    private final int priority;
+
+    /**
+     * 우선순위가 {@code 0}인 정책을 생성합니다.
+     *
+     * @param loadOption 데이터를 받아오는 조건입니다.
+     * @param time 데이터를 받아오는 간격을 초 단위로 설정합니다.
+     * @throws IllegalArgumentException 조건이 null이거나 간격이 0보다 작을 경우 예외가 발생합니다.
+     */
+    public RefreshPolicy(LoadOption loadOption, long time) {
+        this(loadOption, time, 0);
+    }
+
+    /**
+     * 정책을 생성합니다.
+     *
+     * @param loadOption 데이터를 받아오는 조건입니다.
+     * @param time 데이터를 받아오는 간격을 초 단위로 설정합니다.
+     * @param priority 우선순위입니다. 값이 클수록 먼저 받아옵니다.
+     * @throws IllegalArgumentException 조건이 null이거나 간격이 0보다 작을 경우 예외가 발생합니다.
+     */
+    public RefreshPolicy(LoadOption loadOption, long time, int priority) {
+        if(loadOption == null) throw new IllegalArgumentException("loadOption cannot be null");
+        if(time < 0) throw new IllegalArgumentException("time must be greater than or equal to 0");
+        this.loadOption = loadOption;
+        this.loadTime = time * 1000;
+        this.priority = priority;
+    }
+
+    /**
+     * 지정된 시각에 마지막으로 받아온 데이터를 다시 받아와야 하는지 확인합니다.
+     *
+     * <p>{@link LoadOption#LOAD_EVERY_ACTIVE}는 항상, {@link LoadOption#LOAD_ACTIVE_FOR_TIME}은 간격이 지났을 경우 다시 받아옵니다.
+     *
+     * @param lastLoadTime 마지막으로 데이터를 받아온 시각(밀리초)입니다.
+     * @param now 현재 시각(밀리초)입니다.
+     * @return 데이터를 사용할 때 다시 받아와야 할 경우 {@code true}를 반환합니다.
+     */
+    public boolean isStale(long lastLoadTime, long now) {
+        return loadOption == LoadOption.LOAD_EVERY_ACTIVE ||
+            (loadOption == LoadOption.LOAD_ACTIVE_FOR_TIME && lastLoadTime + loadTime <= now);
+    }
+}
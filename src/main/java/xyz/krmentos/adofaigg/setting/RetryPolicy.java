@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.setting;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import xyz.krmentos.adofaigg.LoadManager;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 이 클래스는 데이터를 받아오지 못했을 때 다시 시도하는 정책을 나타냅니다.
+ *
+ * <p>받아오기에 실패하면 {@link #getMaxAttempts()}번까지 다시 시도하며, 시도 사이의 대기 시간은
+ * {@link #getInitialBackoff()}부터 두 배씩 늘어나 {@link #getMaxBackoff()}를 넘지 않습니다.
+ * 대기 시간의 절반은 무작위로 정해지므로 여러 서버가 같은 시각에 다시 요청하지 않습니다.
+ *
+ * <p>같은 데이터에서 {@link #getFailureThreshold()}번 연속으로 실패하면 {@link #getOpenTime()} 동안 데이터를 받아오지 않고
+ * 바로 실패합니다. 이 시간이 지난 후의 첫 요청이 성공하면 다시 정상적으로 받아오며, 실패하면 같은 시간 동안 다시 멈춥니다.
+ *
+ * <p>예시 사용법:
+ * <p>adofaiGG.setRetryPolicy(new RetryPolicy(5, Duration.ofSeconds(1), Duration.ofMinutes(1), 10, Duration.ofMinutes(5)));
+ *
+ * @author Jongyeol
+ * @see LoadManager#setRetryPolicy(RetryPolicy)
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class RetryPolicy {
+    /**
+     * 기본 정책입니다. 3번까지 시도하고 0.5초부터 최대 30초까지 기다리며, 5번 연속으로 실패하면 1분 동안 멈춥니다.
+     */
+    public static final RetryPolicy DEFAULT = new RetryPolicy(3, Duration.ofMillis(500), Duration.ofSeconds(30), 5, Duration.ofMinutes(1));
+    /**
+     * 다시 시도하지 않고 받아오기를 멈추지도 않는 정책입니다.
+     */
+    public static final RetryPolicy NONE = new RetryPolicy(1, Duration.ZERO, Duration.ZERO, Integer.MAX_VALUE, Duration.ZERO);
+
+    private final int maxAttempts;
+    private final long initialBackoff;
+    private final long maxBackoff;
+    private final int failureThreshold;
+    private final long openTime;
+
+    /**
+     * 정책을 생성합니다.
+     *
+     * @param maxAttempts 한 번 받아올 때 시도하는 최대 횟수입니다. 첫 시도를 포함합니다.
+     * @param initialBackoff 첫 실패 후 기다리는 시간입니다.
+     * @param maxBackoff 시도 사이에 기다리는 최대 시간입니다.
+     * @param failureThreshold 받아오기를 멈추는 연속 실패 횟수입니다.
+     * @param openTime 받아오기를 멈추는 시간입니다.
+     * @throws IllegalArgumentException 횟수가 1보다 작거나, 시간이 null이거나 음수이거나, 최대 대기 시간이 첫 대기 시간보다 짧을 경우 예외가 발생합니다.
+     */
+    public RetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff, int failureThreshold, Duration openTime) {
+        if(maxAttempts < 1) throw new IllegalArgumentException("maxAttempts must be greater than 0");
+        if(failureThreshold < 1) throw new IllegalArgumentException("failureThreshold must be greater than 0");
+        if(initialBackoff == null || maxBackoff == null || openTime == null) throw new IllegalArgumentException("duration cannot be null");
+        if(initialBackoff.isNegative() || openTime.isNegative()) throw new IllegalArgumentException("duration cannot be negative");
+        if(maxBackoff.compareTo(initialBackoff) < 0) throw new IllegalArgumentException("maxBackoff must be greater than or equal to initialBackoff");
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff.toMillis();
+        this.maxBackoff = maxBackoff.toMillis();
+        this.failureThreshold = failureThreshold;
+        this.openTime = openTime.toMillis();
+    }
+
+    /**
+     * 지정된 횟수만큼 실패한 후 다음 시도까지 기다릴 시간을 반환합니다.
+     *
+     * @param attempt 지금까지 실패한 횟수입니다.
+     * @return 기다릴 시간(밀리초)입니다. {@code backoff / 2}와 {@code backoff} 사이의 무작위 값입니다.
+     */
+    public long getBackoff(int attempt) {
+        long backoff = initialBackoff;
+        for(int i = 1; i < attempt && backoff < maxBackoff; i++) backoff <<= 1;
+        backoff = Math.min(backoff, maxBackoff);
+        long half = backoff / 2;
+        return half + ThreadLocalRandom.current().nextLong(backoff - half + 1);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.setting;
+
+import xyz.krmentos.adofaigg.data.ClearStore;
+
+/**
+ * 불러온 클리어 데이터를 저장하는 방식을 정의한 열거형입니다.
+ *
+ * @author Jongyeol
+ * @see ClearStore
+ */
+public enum StorageOption {
+    /**
+     * 클리어 데이터를 Java 힙의 개체로 저장합니다.
+     */
+    HEAP,
+
+    /**
+     * 클리어 데이터를 힙 밖의 direct 버퍼에 저장하고, 행마다 저장소와 행 번호만 가진 개체를 힙에 둡니다.
+     */
+    OFF_HEAP,
+
+    /**
+     * 클리어 데이터를 메모리에 매핑된 임시 파일에 저장하고, 행마다 저장소와 행 번호만 가진 개체를 힙에 둡니다.
+     */
+    MAPPED_FILE
+}
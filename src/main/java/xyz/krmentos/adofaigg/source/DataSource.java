@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.source;
+
+import xyz.krmentos.adofaigg.LoadManager;
+import xyz.krmentos.adofaigg.data.GvizTable;
+import xyz.krmentos.adofaigg.setting.DataType;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 이 인터페이스는 {@link LoadManager}가 데이터를 받아오는 곳을 나타냅니다.
+ *
+ * <p>데이터 소스는 각 {@link DataType}의 gviz 응답을 바이트 배열로 제공하며, 응답은 {@link GvizTable#parse(byte[])}로 해석됩니다.
+ * JSONP로 감싸진 응답과 JSON 개체만 있는 응답 모두 사용할 수 있습니다.
+ *
+ * <p>같은 데이터 소스와 구성을 사용하는 {@link LoadManager}는 공유되므로, 같은 곳을 가리키는 데이터 소스는
+ * {@link Object#equals(Object)}와 {@link Object#hashCode()}를 구현해야 합니다. 제한 시간과 같이 받아오는 방식에 영향을 주는 설정도
+ * 비교에 포함해야 하며, 그렇지 않으면 설정이 다른 데이터 소스가 먼저 만들어진 {@link LoadManager}의 데이터 소스를 사용하게 됩니다.
+ *
+ * @author Jongyeol
+ * @see GvizDataSource
+ * @see FileDataSource
+ * @see MemoryDataSource
+ */
+public interface DataSource {
+
+    /**
+     * 지정된 데이터의 gviz 응답을 비동기로 받아옵니다.
+     *
+     * <p>호출한 스레드를 막지 않아야 하며, 파일이나 네트워크를 기다리는 작업은 주어진 실행기나 비동기 IO에서 실행해야 합니다.
+     *
+     * @param type 받아올 데이터의 종류입니다.
+     * @param executor 응답을 읽는 동안 기다리는 작업을 실행할 수 있는 실행기입니다.
+     * @return 응답의 바이트 배열을 반환하는 {@link CompletableFuture}입니다. 받아오지 못한 경우 IO예외로 완료됩니다.
+     */
+    CompletableFuture<byte[]> load(DataType type, Executor executor);
+
+    /**
+     * 지정된 데이터의 gviz 응답을 비동기로 받아옵니다. {@link LoadManager}는 실패한 요청을 다시 시도할 때 이 메소드를 사용합니다.
+     *
+     * <p>요청 수를 제한하는 데이터 소스는 한 번 받아오는 동안 처음 시도에서만 제한을 확인하여, 다시 시도하는 요청이
+     * 다른 받아오기와 요청 수를 나누지 않도록 할 수 있습니다. 기본 구현은 {@link #load(DataType, Executor)}를 호출합니다.
+     *
+     * @param type 받아올 데이터의 종류입니다.
+     * @param executor 응답을 읽는 동안 기다리는 작업을 실행할 수 있는 실행기입니다.
+     * @param attempt 한 번 받아오는 동안의 시도 순서입니다. 처음 시도는 {@code 1}입니다.
+     * @return 응답의 바이트 배열을 반환하는 {@link CompletableFuture}입니다. 받아오지 못한 경우 IO예외로 완료됩니다.
+     */
+    default CompletableFuture<byte[]> load(DataType type, Executor executor, int attempt) {
+        return load(type, executor);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.source;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import xyz.krmentos.adofaigg.setting.DataType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 이 클래스는 로컬 디렉터리의 파일에서 데이터를 받아오는 {@link DataSource}입니다.
+ *
+ * <p>각 데이터는 디렉터리 안의 {@code {gid}.json} 파일에서 읽으며, 파일은 gviz 응답을 그대로 저장한 것이어야 합니다.
+ * 네트워크 없이 실행하거나, 정해진 데이터로 테스트와 성능 측정을 할 때 사용합니다.
+ *
+ * @author Jongyeol
+ * @see DataSource
+ * @see GvizDataSource#getGid(DataType)
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class FileDataSource implements DataSource {
+    private final Path directory;
+
+    /**
+     * 지정된 디렉터리에서 데이터를 읽는 데이터 소스를 생성합니다.
+     *
+     * @param directory gviz 응답 파일이 있는 디렉터리입니다.
+     * @throws IllegalArgumentException 디렉터리가 null일 경우 예외가 발생합니다.
+     */
+    public FileDataSource(Path directory) {
+        if(directory == null) throw new IllegalArgumentException("directory cannot be null");
+        this.directory = directory.toAbsolutePath().normalize();
+    }
+
+    /**
+     * 지정된 데이터의 파일 경로를 반환합니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @return 데이터의 파일 경로입니다.
+     */
+    public Path getPath(DataType type) {
+        return directory.resolve(GvizDataSource.getGid(type) + ".json");
+    }
+
+    /**
+     * 지정된 데이터의 파일을 주어진 실행기에서 읽습니다.
+     *
+     * @param type 받아올 데이터의 종류입니다.
+     * @param executor 파일을 읽을 실행기입니다.
+     * @return 파일의 바이트 배열을 반환하는 {@link CompletableFuture}입니다.
+     */
+    @Override
+    public CompletableFuture<byte[]> load(DataType type, Executor executor) {
+        Path path = getPath(type);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return Files.readAllBytes(path);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }, executor);
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.source;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import xyz.krmentos.adofaigg.data.ClearData;
+import xyz.krmentos.adofaigg.data.MapData;
+import xyz.krmentos.adofaigg.data.UserData;
+import xyz.krmentos.adofaigg.exception.RateLimited;
+import xyz.krmentos.adofaigg.setting.DataType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 이 클래스는 Google Sheets의 gviz 엔드포인트에서 데이터를 받아오는 {@link DataSource}입니다.
+ *
+ * <p>요청은 공유된 {@link HttpClient}로 전송되며 gzip 압축을 요청합니다.
+ * 각 데이터의 gid는 {@link MapData#gid}, {@link ClearData#gid}, {@link UserData#gid}를 사용합니다.
+ *
+ * <p>주소를 지정하면 내부망에 복제된 시트나 로컬 테스트 서버에서 데이터를 받아올 수 있습니다.
+ * 주소와 응답 제한 시간은 생성할 때만 지정할 수 있으며, 둘 다 같은 데이터 소스는 같은 것으로 취급되어 {@link xyz.krmentos.adofaigg.LoadManager}를 공유합니다.
+ *
+ * <p>요청 수는 gid마다, 그리고 프로세스 전체에서 {@link RateLimiter}로 제한되므로, 데이터를 읽는 양과 관계없이 Google Sheets에 보내는 요청은 일정한 수를 넘지 않습니다.
+ *
+ * @author Jongyeol
+ * @see DataSource
+ */
+@Getter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(onlyExplicitlyIncluded = true)
+public class GvizDataSource implements DataSource {
+    /**
+     * Adofai.gg 시트의 gviz 주소입니다. 뒤에 gid가 붙습니다.
+     */
+    public static final String DEFAULT_URL = "https://docs.google.com/spreadsheets/d/1MOz5cmMpYwpBB95DK1Udcti_8eOrswnxWzFurhAz0yg/gviz/tq?tqx=out:json&tq&gid=";
+    private static HttpClient httpClient;
+    private static Duration connectTimeout = Duration.ofSeconds(10);
+    private static RateLimiter rateLimiter;
+    private static final RateLimiter[] gidRateLimiters = new RateLimiter[DataType.values().length];
+
+    static {
+        for(DataType type : DataType.values()) gidRateLimiters[type.ordinal()] = new RateLimiter(5, Duration.ofSeconds(1));
+    }
+
+    @EqualsAndHashCode.Include
+    @ToString.Include
+    private final String url;
+    @EqualsAndHashCode.Include
+    @ToString.Include
+    private final Duration requestTimeout;
+
+    /**
+     * Adofai.gg 시트에서 데이터를 받아오는 데이터 소스를 생성합니다.
+     */
+    public GvizDataSource() {
+        this(DEFAULT_URL);
+    }
+
+    /**
+     * 지정된 주소에서 데이터를 받아오는 데이터 소스를 생성합니다.
+     *
+     * @param url gviz 주소입니다. 요청할 때 주소 뒤에 gid가 붙습니다.
+     * @throws IllegalArgumentException 주소가 null일 경우 예외가 발생합니다.
+     */
+    public GvizDataSource(String url) {
+        this(url, Duration.ofSeconds(30));
+    }
+
+    /**
+     * 지정된 주소에서 지정된 응답 제한 시간으로 데이터를 받아오는 데이터 소스를 생성합니다.
+     * 제한 시간이 지나면 요청은 취소되고 {@link HttpTimeoutException}으로 실패합니다.
+     *
+     * @param url gviz 주소입니다. 요청할 때 주소 뒤에 gid가 붙습니다.
+     * @param requestTimeout 요청을 보낸 후 응답 본문을 모두 받을 때까지의 제한 시간입니다. 기본값은 30초입니다.
+     * @throws IllegalArgumentException 주소가 null이거나, 제한 시간이 null이거나 0보다 작거나 같을 경우 예외가 발생합니다.
+     */
+    public GvizDataSource(String url, Duration requestTimeout) {
+        if(url == null) throw new IllegalArgumentException("url cannot be null");
+        if(requestTimeout == null || requestTimeout.isNegative() || requestTimeout.isZero()) throw new IllegalArgumentException("requestTimeout must be positive");
+        this.url = url;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * 지정된 데이터를 비동기로 요청합니다.
+     *
+     * <p>요청은 {@link HttpClient}의 비동기 IO로 전송되며 본문도 비동기로 모두 받은 후, 압축 해제만 주어진 실행기에서 실행합니다.
+     * 따라서 어떤 스레드도 네트워크를 기다리지 않습니다. 응답 헤더와 본문을 모두 받기까지 {@link #getRequestTimeout()}을 넘으면
+     * 요청을 취소하고 {@link HttpTimeoutException}으로 완료되므로, 본문을 보내다 멈춘 서버에도 무한히 기다리지 않습니다.
+     *
+     * <p>요청하기 전에 gid마다의 {@link RateLimiter}와 프로세스 전체의 {@link RateLimiter}에서 토큰을 사용하며,
+     * 토큰이 없을 경우 요청하지 않고 {@link RateLimited}로 바로 완료됩니다. 다시 시도하는 요청은 {@link #load(DataType, Executor, int)}로
+     * 보내지며 토큰을 사용하지 않으므로, 한 번 받아올 때 사용하는 토큰은 하나입니다.
+     *
+     * @param type 받아올 데이터의 종류입니다.
+     * @param executor 응답의 본문의 압축을 해제할 실행기입니다.
+     * @return 응답의 바이트 배열을 반환하는 {@link CompletableFuture}입니다.
+     */
+    @Override
+    public CompletableFuture<byte[]> load(DataType type, Executor executor) {
+        return load(type, executor, 1);
+    }
+
+    /**
+     * 지정된 데이터를 비동기로 요청합니다. 처음 시도에서만 {@link RateLimiter}의 토큰을 사용하며, 다시 시도하는 요청은 토큰 없이 보냅니다.
+     * 다시 시도하는 횟수는 {@link xyz.krmentos.adofaigg.setting.RetryPolicy}로 제한됩니다.
+     *
+     * @see #load(DataType, Executor)
+     * @param type 받아올 데이터의 종류입니다.
+     * @param executor 응답의 본문의 압축을 해제할 실행기입니다.
+     * @param attempt 한 번 받아오는 동안의 시도 순서입니다. 처음 시도는 {@code 1}입니다.
+     * @return 응답의 바이트 배열을 반환하는 {@link CompletableFuture}입니다.
+     */
+    @Override
+    public CompletableFuture<byte[]> load(DataType type, Executor executor, int attempt) {
+        if(attempt <= 1 && !tryAcquire(type)) return CompletableFuture.failedFuture(new RateLimited(type));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url + getGid(type)))
+            .timeout(requestTimeout)
+            .header("Accept-Encoding", "gzip")
+            .GET()
+            .build();
+        return send(request).thenApplyAsync(GvizDataSource::readBody, executor);
+    }
+
+    /**
+     * 요청을 보내고 본문을 모두 받습니다. 응답 헤더와 본문을 받기까지 제한 시간을 넘으면 요청을 취소합니다.
+     */
+    private CompletableFuture<HttpResponse<byte[]>> send(HttpRequest request) {
+        CompletableFuture<HttpResponse<byte[]>> response = getHttpClient().sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        CompletableFuture<HttpResponse<byte[]>> bounded = new CompletableFuture<>();
+        response.whenComplete((result, throwable) -> {
+            if(throwable == null) bounded.complete(result);
+            else bounded.completeExceptionally(throwable);
+        });
+        CompletableFuture.delayedExecutor(requestTimeout.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+            if(bounded.completeExceptionally(new HttpTimeoutException("request timed out after " + requestTimeout.toMillis() + "ms: " + request.uri())))
+                response.cancel(true);
+        });
+        return bounded;
+    }
+
+    private static synchronized boolean tryAcquire(DataType type) {
+        RateLimiter gidRateLimiter = gidRateLimiters[type.ordinal()];
+        if(gidRateLimiter != null && !gidRateLimiter.tryAcquire()) return false;
+        if(rateLimiter == null || rateLimiter.tryAcquire()) return true;
+        if(gidRateLimiter != null) gidRateLimiter.release();
+        return false;
+    }
+
+    /**
+     * 모든 {@link GvizDataSource}가 보내는 요청 수를 제한할 {@link RateLimiter}를 반환합니다.
+     *
+     * @return 프로세스 전체의 {@link RateLimiter}입니다. 설정되지 않은 경우 null을 반환합니다.
+     */
+    public static synchronized RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * 모든 {@link GvizDataSource}가 보내는 요청 수를 제한할 {@link RateLimiter}를 설정합니다.
+     *
+     * <p>gid마다의 제한과 함께 적용되므로, 요청하려면 두 {@link RateLimiter}에 모두 토큰이 있어야 합니다.
+     *
+     * @param rateLimiter 프로세스 전체의 {@link RateLimiter}입니다. null일 경우 프로세스 전체의 요청 수를 제한하지 않습니다.
+     */
+    public static synchronized void setRateLimiter(RateLimiter rateLimiter) {
+        GvizDataSource.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * 지정된 데이터의 gid로 보내는 요청 수를 제한할 {@link RateLimiter}를 반환합니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @return gid의 {@link RateLimiter}입니다. 설정되지 않은 경우 null을 반환합니다.
+     */
+    public static synchronized RateLimiter getRateLimiter(DataType type) {
+        return gidRateLimiters[type.ordinal()];
+    }
+
+    /**
+     * 지정된 데이터의 gid로 보내는 요청 수를 제한할 {@link RateLimiter}를 설정합니다.
+     *
+     * <p>제한은 주소와 관계없이 프로세스 안의 모든 {@link GvizDataSource}에 적용됩니다.
+     * 기본값은 최대 5개의 토큰을 담고 1초마다 하나씩 채워지는 {@link RateLimiter}입니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @param rateLimiter gid의 {@link RateLimiter}입니다. null일 경우 gid의 요청 수를 제한하지 않습니다.
+     */
+    public static synchronized void setRateLimiter(DataType type, RateLimiter rateLimiter) {
+        gidRateLimiters[type.ordinal()] = rateLimiter;
+    }
+
+    /**
+     * 지정된 데이터의 gid를 반환합니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @return 데이터의 gid입니다.
+     */
+    public static int getGid(DataType type) {
+        return switch(type) {
+            case MAP -> MapData.gid;
+            case CLEAR -> ClearData.gid;
+            case USER -> UserData.gid;
+        };
+    }
+
+    /**
+     * 받은 응답의 본문을 반환합니다. 본문이 gzip으로 압축된 경우 압축을 해제합니다.
+     *
+     * @param response 받은 응답입니다.
+     * @return 압축이 해제된 본문입니다.
+     * @throws RuntimeException 응답 코드가 400 이상이거나 압축을 해제하는 중 IO예외가 발생한 경우 예외가 발생합니다.
+     */
+    private static byte[] readBody(HttpResponse<byte[]> response) {
+        try {
+            if(response.statusCode() >= 400)
+                throw new IOException("Server returned HTTP response code: " + response.statusCode() + " for URL: " + response.uri());
+            boolean gzip = response.headers().firstValue("Content-Encoding").map("gzip"::equalsIgnoreCase).orElse(false);
+            if(!gzip) return response.body();
+            try(InputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()), 65536)) {
+                return in.readAllBytes();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 모든 {@link GvizDataSource}가 데이터를 요청할 때 사용하는 {@link HttpClient}를 반환합니다.
+     *
+     * <p>설정되지 않은 경우 HTTP/2를 우선 사용하고 리다이렉트를 따르는 {@link HttpClient}를 생성하며,
+     * 생성된 {@link HttpClient}는 연결을 유지하므로 다시 요청할 때 TLS 연결을 새로 맺지 않습니다.
+     *
+     * @return 공유된 {@link HttpClient}입니다.
+     */
+    public static synchronized HttpClient getHttpClient() {
+        if(httpClient == null) {
+            httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(connectTimeout)
+                .build();
+        }
+        return httpClient;
+    }
+
+    /**
+     * 모든 {@link GvizDataSource}가 데이터를 요청할 때 사용할 {@link HttpClient}를 설정합니다.
+     *
+     * @param httpClient 사용할 {@link HttpClient}입니다. null일 경우 다음 요청 때 기본 {@link HttpClient}를 새로 생성합니다.
+     */
+    public static synchronized void setHttpClient(HttpClient httpClient) {
+        GvizDataSource.httpClient = httpClient;
+    }
+
+    /**
+     * 기본 {@link HttpClient}의 연결 제한 시간을 설정합니다.
+     *
+     * <p>기본 {@link HttpClient}는 다음 요청 때 새로 생성되며, {@link #setHttpClient(HttpClient)}로 설정한 {@link HttpClient}는 바뀌지 않습니다.
+     *
+     * @param connectTimeout 연결 제한 시간입니다. 기본값은 10초입니다.
+     * @throws IllegalArgumentException 제한 시간이 null이거나 0보다 작거나 같을 경우 예외가 발생합니다.
+     */
+    public static synchronized void setConnectTimeout(Duration connectTimeout) {
+        if(connectTimeout == null || connectTimeout.isNegative() || connectTimeout.isZero()) throw new IllegalArgumentException("connectTimeout must be positive");
+        GvizDataSource.connectTimeout = connectTimeout;
+        httpClient = null;
+    }
+}
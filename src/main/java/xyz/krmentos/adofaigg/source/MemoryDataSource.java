@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.source;
+
+import xyz.krmentos.adofaigg.setting.DataType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 이 클래스는 메모리에 저장된 gviz 응답을 제공하는 {@link DataSource}입니다.
+ *
+ * <p>{@link #put(DataType, String)}으로 저장한 응답은 다음에 데이터를 받아올 때부터 사용되며, 정해진 데이터로 테스트할 때 사용합니다.
+ * 같은 개체일 경우에만 같은 데이터 소스로 취급합니다.
+ *
+ * @author Jongyeol
+ * @see DataSource
+ */
+public class MemoryDataSource implements DataSource {
+    private final byte[][] responses = new byte[DataType.values().length][];
+
+    /**
+     * 지정된 데이터의 응답을 저장합니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @param response gviz 응답입니다. null일 경우 저장된 응답을 제거합니다.
+     * @return {@link MemoryDataSource} 개체 자신을 반환합니다.
+     */
+    public MemoryDataSource put(DataType type, String response) {
+        return put(type, response == null ? null : response.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 지정된 데이터의 응답을 저장합니다.
+     *
+     * @param type 데이터의 종류입니다.
+     * @param response UTF-8로 인코딩된 gviz 응답입니다. null일 경우 저장된 응답을 제거합니다.
+     * @return {@link MemoryDataSource} 개체 자신을 반환합니다.
+     */
+    public MemoryDataSource put(DataType type, byte[] response) {
+        synchronized(responses) {
+            responses[type.ordinal()] = response;
+        }
+        return this;
+    }
+
+    /**
+     * 저장된 응답을 반환합니다.
+     *
+     * @param type 받아올 데이터의 종류입니다.
+     * @param executor 사용하지 않습니다.
+     * @return 저장된 응답으로 완료된 {@link CompletableFuture}입니다. 응답이 없을 경우 IO예외로 완료됩니다.
+     */
+    @Override
+    public CompletableFuture<byte[]> load(DataType type, Executor executor) {
+        byte[] response;
+        synchronized(responses) {
+            response = responses[type.ordinal()];
+        }
+        if(response == null) return CompletableFuture.failedFuture(new IOException("No response stored for " + type));
+        return CompletableFuture.completedFuture(response);
+    }
+}
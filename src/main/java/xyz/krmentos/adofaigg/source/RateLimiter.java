@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.source;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * 이 클래스는 요청 수를 제한하는 토큰 버킷입니다.
+ *
+ * <p>버킷은 최대 {@link #getCapacity()}개의 토큰을 담으며, {@link #getRefillPeriod()}마다 토큰이 하나씩 채워집니다.
+ * 요청할 때마다 토큰을 하나 사용하므로, 짧은 시간에는 최대 {@code capacity}번, 오랜 시간 동안에는
+ * {@code refillPeriod}마다 한 번까지 요청할 수 있습니다.
+ *
+ * <p>예시 사용법:
+ * <p>GvizDataSource.setRateLimiter(new RateLimiter(10, Duration.ofSeconds(2)));
+ *
+ * @author Jongyeol
+ * @see GvizDataSource#setRateLimiter(RateLimiter)
+ */
+@Getter
+@ToString(onlyExplicitlyIncluded = true)
+public class RateLimiter {
+    @ToString.Include
+    private final int capacity;
+    @ToString.Include
+    private final Duration refillPeriod;
+    @Getter(AccessLevel.NONE)
+    private final long refillNanos;
+    @Getter(AccessLevel.NONE)
+    private long tokens;
+    @Getter(AccessLevel.NONE)
+    private long lastRefill;
+
+    /**
+     * 가득 찬 토큰 버킷을 생성합니다.
+     *
+     * @param capacity 버킷에 담을 수 있는 최대 토큰 수입니다.
+     * @param refillPeriod 토큰이 하나 채워지는 간격입니다.
+     * @throws IllegalArgumentException 최대 토큰 수가 1보다 작거나, 간격이 null이거나 0보다 작거나 같을 경우 예외가 발생합니다.
+     */
+    public RateLimiter(int capacity, Duration refillPeriod) {
+        if(capacity < 1) throw new IllegalArgumentException("capacity must be greater than 0");
+        if(refillPeriod == null || refillPeriod.isNegative() || refillPeriod.isZero()) throw new IllegalArgumentException("refillPeriod must be positive");
+        this.capacity = capacity;
+        this.refillPeriod = refillPeriod;
+        this.refillNanos = refillPeriod.toNanos();
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * 토큰을 하나 사용합니다. 토큰이 없을 경우 기다리지 않고 바로 실패합니다.
+     *
+     * @return 토큰을 사용한 경우 {@code true}를 반환합니다.
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if(tokens == 0) return false;
+        tokens--;
+        return true;
+    }
+
+    /**
+     * 사용한 토큰을 다시 버킷에 넣습니다. 다른 제한에 걸려 요청하지 않은 경우 호출합니다.
+     */
+    public synchronized void release() {
+        if(tokens < capacity) tokens++;
+    }
+
+    /**
+     * 현재 사용할 수 있는 토큰 수를 반환합니다.
+     *
+     * @return 사용할 수 있는 토큰 수입니다.
+     */
+    public synchronized int getAvailableTokens() {
+        refill();
+        return (int) tokens;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        long added = (now - lastRefill) / refillNanos;
+        if(added == 0) return;
+        if(tokens + added >= capacity) {
+            tokens = capacity;
+            lastRefill = now;
+        } else {
+            tokens += added;
+            lastRefill += added * refillNanos;
+        }
+    }
+}
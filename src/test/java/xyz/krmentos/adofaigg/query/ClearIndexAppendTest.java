@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2024, Team Mentos
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the <organization> nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package xyz.krmentos.adofaigg.query;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.Test;
+import xyz.krmentos.adofaigg.data.ClearData;
+import xyz.krmentos.adofaigg.data.Statistics;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ClearIndex#append(ClearData[])}와 {@link Statistics#append(ClearData[], int)}가
+ * 전체 데이터로 새로 계산한 결과와 같은지 확인합니다.
+ *
+ * <p>추가된 색인은 이전 색인과 배열을 공유하므로, 같은 색인에서 두 번 추가한 경우와 추가된 색인에 다시 추가한 경우를 모두 확인합니다.
+ *
+ * @author Jongyeol
+ */
+class ClearIndexAppendTest {
+    private static final int MAP_COUNT = 30;
+    private static final int USER_COUNT = 50;
+
+    @Test
+    void appendTwiceFromSameBase() {
+        Random random = new Random(48);
+        ClearData[] base = clears(random, 1, 500);
+        ClearIndex baseIndex = new ClearIndex(base);
+        Statistics baseStatistics = Statistics.compute(null, base);
+
+        ClearData[] first = concat(base, clears(random, 1000, 200));
+        ClearIndex firstIndex = baseIndex.append(first);
+        Statistics firstStatistics = baseStatistics.append(first, base.length);
+
+        ClearData[] second = concat(base, clears(random, 2000, 300));
+        ClearIndex secondIndex = baseIndex.append(second);
+        Statistics secondStatistics = baseStatistics.append(second, base.length);
+
+        assertSameAsRebuild(base, baseIndex, baseStatistics);
+        assertSameAsRebuild(first, firstIndex, firstStatistics);
+        assertSameAsRebuild(second, secondIndex, secondStatistics);
+    }
+
+    @Test
+    void appendSequentially() {
+        Random random = new Random(480);
+        ClearData[] base = clears(random, 1, 500);
+        ClearIndex index = new ClearIndex(base);
+        Statistics statistics = Statistics.compute(null, base);
+
+        ClearData[] first = concat(base, clears(random, 1000, 200));
+        ClearIndex firstIndex = index.append(first);
+        Statistics firstStatistics = statistics.append(first, base.length);
+
+        ClearData[] second = concat(first, clears(random, 2000, 300));
+        ClearIndex secondIndex = firstIndex.append(second);
+        Statistics secondStatistics = firstStatistics.append(second, first.length);
+
+        ClearData[] branch = concat(first, clears(random, 3000, 100));
+        ClearIndex branchIndex = firstIndex.append(branch);
+        Statistics branchStatistics = firstStatistics.append(branch, first.length);
+
+        assertSameAsRebuild(base, index, statistics);
+        assertSameAsRebuild(first, firstIndex, firstStatistics);
+        assertSameAsRebuild(second, secondIndex, secondStatistics);
+        assertSameAsRebuild(branch, branchIndex, branchStatistics);
+    }
+
+    @Test
+    void appendSmallerIdsAndEarlierTimes() {
+        Random random = new Random(4800);
+        ClearData[] base = clears(random, 5000, 300);
+        ClearIndex index = new ClearIndex(base);
+        Statistics statistics = Statistics.compute(null, base);
+
+        ClearData[] appended = concat(base, clears(random, 1, 200));
+        assertSameAsRebuild(appended, index.append(appended), statistics.append(appended, base.length));
+        assertSameAsRebuild(base, index, statistics);
+    }
+
+    private static void assertSameAsRebuild(ClearData[] clears, ClearIndex index, Statistics statistics) {
+        ClearIndex rebuilt = new ClearIndex(clears);
+        Statistics recomputed = Statistics.compute(null, clears);
+        assertSame(clears, index.getClears());
+        for(ClearData clear : clears) assertSame(rebuilt.getById(clear.getId()), index.getById(clear.getId()));
+        assertNull(index.getById(-1));
+        int[] mapIds = IntStream.concat(IntStream.rangeClosed(0, MAP_COUNT), Arrays.stream(clears).mapToInt(ClearData::getMapId)).distinct().toArray();
+        int[] userCodes = IntStream.concat(IntStream.rangeClosed(0, USER_COUNT), Arrays.stream(clears).mapToInt(ClearData::getUserCode)).distinct().toArray();
+        for(int id : mapIds) {
+            assertArrayEquals(rebuilt.getByMapId(id), index.getByMapId(id), "mapId " + id);
+            assertEquals(recomputed.getMapStats(id), statistics.getMapStats(id), "mapId " + id);
+        }
+        for(int code : userCodes) {
+            assertArrayEquals(rebuilt.getByUserCode(code), index.getByUserCode(code), "userCode " + code);
+            assertEquals(recomputed.getUserStats(code), statistics.getUserStats(code), "userCode " + code);
+        }
+        long[] times = Arrays.stream(clears).mapToLong(ClearData::getTimeStampMillis).filter(time -> time >= 0).sorted().toArray();
+        assertArrayEquals(rebuilt.getByTimeRange(Long.MIN_VALUE, Long.MAX_VALUE), index.getByTimeRange(Long.MIN_VALUE, Long.MAX_VALUE));
+        for(int i = 0; i + 1 < times.length; i += times.length / 10 + 1) {
+            long from = times[i], to = times[Math.min(times.length - 1, i + times.length / 7)];
+            assertArrayEquals(rebuilt.getByTimeRange(from, to), index.getByTimeRange(from, to), "time " + from + " ~ " + to);
+        }
+    }
+
+    private static ClearData[] concat(ClearData[] previous, ClearData[] added) {
+        ClearData[] clears = Arrays.copyOf(previous, previous.length + added.length);
+        System.arraycopy(added, 0, clears, previous.length, added.length);
+        return clears;
+    }
+
+    /**
+     * 시간 순서가 일부 섞인 클리어 데이터를 만듭니다. 시간이 없는 행과 음수인 맵 ID, 큰 사용자 코드도 일부 포함됩니다.
+     */
+    private static ClearData[] clears(Random random, int firstId, int count) {
+        JsonArray cols = new JsonArray();
+        for(int i = 0; i < 26; i++) {
+            JsonObject col = new JsonObject();
+            col.addProperty("type", "string");
+            cols.add(col);
+        }
+        JsonArray rows = new JsonArray();
+        for(int i = 0; i < count; i++) {
+            int userCode = random.nextInt(50) == 0 ? (1 << 20) + random.nextInt(3) : random.nextInt(USER_COUNT);
+            JsonArray cells = new JsonArray();
+            for(int column = 0; column < 26; column++) cells.add(JsonNull.INSTANCE);
+            cells.set(0, cell(firstId + i));
+            cells.set(1, cell(random.nextInt(20) == 0 ? "" : "Date(2023," + random.nextInt(12) + "," + (1 + random.nextInt(28)) + ","
+                + random.nextInt(24) + "," + random.nextInt(60) + ",0)"));
+            cells.set(2, cell("player" + userCode));
+            cells.set(3, cell(userCode));
+            cells.set(4, cell(random.nextInt(50) == 0 ? -1 - random.nextInt(2) : random.nextInt(MAP_COUNT)));
+            cells.set(12, cell(random.nextDouble()));
+            cells.set(13, cell(1 + random.nextInt(3) * 0.5));
+            cells.set(14, cell(random.nextDouble()));
+            cells.set(15, cell(random.nextInt(10000) / 10.0));
+            cells.set(23, cell(""));
+            cells.set(24, cell(""));
+            JsonObject row = new JsonObject();
+            row.add("c", cells);
+            rows.add(row);
+        }
+        JsonObject table = new JsonObject();
+        table.add("cols", cols);
+        table.add("rows", rows);
+        JsonObject object = new JsonObject();
+        object.add("table", table);
+        ClearData[] clears = ClearData.loadData(object);
+        assertEquals(count, clears.length);
+        return clears;
+    }
+
+    private static JsonObject cell(Number value) {
+        JsonObject cell = new JsonObject();
+        cell.addProperty("v", value);
+        return cell;
+    }
+
+    private static JsonObject cell(String value) {
+        JsonObject cell = new JsonObject();
+        cell.addProperty("v", value);
+        return cell;
+    }
+}